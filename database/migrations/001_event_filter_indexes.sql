@@ -0,0 +1,8 @@
+-- Indexes backing EventService.findViews(EventFilter).
+-- Date ranges and past/upcoming filters seek on event_date; the club and venue
+-- filters seek on the composite keys and read the date range from the same index.
+-- The composites also cover the club_id and venue_id foreign keys.
+
+CREATE INDEX idx_events_date ON Events (event_date);
+CREATE INDEX idx_events_club_date ON Events (club_id, event_date);
+CREATE INDEX idx_events_venue_date ON Events (venue_id, event_date);
@@ -0,0 +1,9 @@
+-- FULLTEXT indexes backing SearchService (the header's "Full text" search mode).
+-- MATCH() must name exactly the columns of one FULLTEXT index, so each index
+-- covers the title column together with the long text column it is searched with.
+-- InnoDB ignores words shorter than innodb_ft_min_token_size (default 3) and its
+-- stopword list when indexing.
+
+CREATE FULLTEXT INDEX ftx_clubs_name_description ON Clubs (club_name, club_description);
+CREATE FULLTEXT INDEX ftx_events_name_description ON Events (event_name, description);
+CREATE FULLTEXT INDEX ftx_announcements_title_content ON Announcements (title, content);
@@ -0,0 +1,25 @@
+-- Columns and keys used by EventRegistrationService.
+-- Events.capacity is the registration limit (NULL means unlimited) and
+-- Events.registered_count is kept in step with EventRegistrations so that a
+-- registration only has to lock and update one Events row:
+--   UPDATE Events SET registered_count = registered_count + 1
+--   WHERE event_id = ? AND (capacity IS NULL OR registered_count < capacity)
+
+ALTER TABLE Events
+    ADD COLUMN capacity INT NULL,
+    ADD COLUMN registered_count INT NOT NULL DEFAULT 0;
+
+-- Registrations are numbered by the database
+ALTER TABLE EventRegistrations MODIFY registration_id INT NOT NULL AUTO_INCREMENT;
+
+-- One registration per member and event; earlier duplicates are kept, later ones dropped
+DELETE later FROM EventRegistrations later
+JOIN EventRegistrations earlier
+  ON earlier.member_id = later.member_id
+ AND earlier.event_id = later.event_id
+ AND earlier.registration_id < later.registration_id;
+
+ALTER TABLE EventRegistrations ADD UNIQUE KEY uq_registration_member_event (member_id, event_id);
+
+UPDATE Events e
+SET e.registered_count = (SELECT COUNT(*) FROM EventRegistrations r WHERE r.event_id = e.event_id);
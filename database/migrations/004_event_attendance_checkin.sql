@@ -0,0 +1,20 @@
+-- Keys used by AttendanceService.
+-- Check-ins are written in batches and may be written again when the service's
+-- journal is replayed after a crash, so a unique (member_id, event_id) key makes
+-- the second write of a check-in a no-op instead of a second attendance row.
+
+ALTER TABLE EventAttendance
+    MODIFY attendance_id INT NOT NULL AUTO_INCREMENT,
+    ADD COLUMN checked_in_at DATETIME NULL;
+
+-- One attendance row per member and event; earlier rows are kept
+DELETE later FROM EventAttendance later
+JOIN EventAttendance earlier
+  ON earlier.member_id = later.member_id
+ AND earlier.event_id = later.event_id
+ AND earlier.attendance_id < later.attendance_id;
+
+ALTER TABLE EventAttendance ADD UNIQUE KEY uq_attendance_member_event (member_id, event_id);
+
+-- Per-event counts and loadEvent() read by event
+CREATE INDEX idx_attendance_event ON EventAttendance (event_id);
@@ -0,0 +1,8 @@
+-- Feedback rows written by FeedbackService are numbered by the database.
+-- FeedbackService.reconcile() reads per-event rating counts with
+--   SELECT event_id, rating, COUNT(*) FROM EventFeedback GROUP BY event_id, rating
+-- which the index below answers without reading the comments.
+
+ALTER TABLE EventFeedback MODIFY feedback_id INT NOT NULL AUTO_INCREMENT;
+
+CREATE INDEX idx_feedback_event_rating ON EventFeedback (event_id, rating);
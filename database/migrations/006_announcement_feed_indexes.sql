@@ -0,0 +1,12 @@
+-- Indexes for AnnouncementService's newest-first feeds.
+-- Both feeds page by keyset on (announcement_date, announcement_id), read in
+-- descending order, so a page is a short backward range scan of one index:
+--   WHERE club_id = ? AND (announcement_date, announcement_id) before the last row seen
+--   ORDER BY announcement_date DESC, announcement_id DESC LIMIT ?
+-- and older history is never read to reach the newest rows.
+
+CREATE INDEX idx_announcements_club_feed ON Announcements (club_id, announcement_date, announcement_id);
+CREATE INDEX idx_announcements_feed ON Announcements (announcement_date, announcement_id);
+
+-- Announcements posted from the application are numbered by the database
+ALTER TABLE Announcements MODIFY announcement_id INT NOT NULL AUTO_INCREMENT;
@@ -0,0 +1,13 @@
+-- Columns used by DocumentService's content-addressed storage.
+-- file_path of a stored document is relative to the storage directory
+-- (data/documents by default): xx/yy/<sha-256 of the content>. Identical uploads
+-- share one file, so content_hash is indexed to count a file's remaining
+-- references before it is deleted.
+
+ALTER TABLE Documents
+    MODIFY document_id INT NOT NULL AUTO_INCREMENT,
+    ADD COLUMN content_hash CHAR(64) NULL,
+    ADD COLUMN size_bytes BIGINT NULL,
+    ADD COLUMN original_name VARCHAR(255) NULL;
+
+CREATE INDEX idx_documents_content_hash ON Documents (content_hash);
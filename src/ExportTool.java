@@ -0,0 +1,42 @@
+import exception.DatabaseException;
+import exception.ExportException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import db.DBConnection;
+import service.EventService;
+import service.ExportService;
+import service.MemberService;
+
+/**
+ * Headless export entry point for scheduled reporting jobs:
+ * <pre>java -cp bin:lib/* ExportTool members|events &lt;file&gt; [--gzip]</pre>
+ * The format follows the file extension (.csv or .jsonl); a .gz suffix or
+ * --gzip compresses the output.
+ */
+public class ExportTool {
+
+    public static void main(String[] args) {
+        if (args.length < 2 || !(args[0].equals("members") || args[0].equals("events"))) {
+            System.err.println("Usage: ExportTool members|events <file.csv|file.jsonl>[.gz] [--gzip]");
+            System.exit(2);
+        }
+        Path file = Paths.get(args[1]);
+        boolean gzip = file.toString().endsWith(".gz") || (args.length > 2 && args[2].equals("--gzip"));
+        ExportService.Format format = ExportService.Format.fromFileName(file.getFileName().toString());
+        ExportService exportService = new ExportService(new MemberService(), new EventService());
+
+        long start = System.nanoTime();
+        try {
+            long rows = args[0].equals("members")
+                    ? exportService.exportMembers(file, format, gzip)
+                    : exportService.exportEvents(file, format, gzip);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("Exported " + rows + " " + args[0] + " to " + file + " in " + millis + "ms");
+        } catch (DatabaseException | ExportException e) {
+            System.err.println("Export failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            DBConnection.closeConnection();
+        }
+    }
+}
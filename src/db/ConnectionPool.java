@@ -0,0 +1,325 @@
+package db;
+
+import exception.DatabaseException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fixed-bound JDBC connection pool used by DBConnection.
+ * Connections handed out are proxies: calling close() returns the physical
+ * connection to the pool instead of closing it, so the existing
+ * try-with-resources blocks in the services keep working unchanged.
+ */
+public class ConnectionPool {
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+    private final String url;
+    private final Properties connectionProps = new Properties();
+
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final long connectionTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdMs;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private final Map<PooledConnection, Boolean> borrowed = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService housekeeper;
+    private int totalConnections = 0;
+    private volatile boolean shutdown = false;
+
+    public ConnectionPool(Properties props) {
+        this.url = props.getProperty("db.url");
+        connectionProps.setProperty("user", props.getProperty("db.username", ""));
+        connectionProps.setProperty("password", props.getProperty("db.password", ""));
+        // Sends JDBC batches as multi-row statements instead of one round trip per row
+        connectionProps.setProperty("rewriteBatchedStatements", props.getProperty("db.rewriteBatchedStatements", "true"));
+        this.maxSize = Math.max(1, intProperty(props, "db.pool.maxSize", 10));
+        this.minSize = Math.min(intProperty(props, "db.pool.minSize", 2), maxSize);
+        this.idleTimeoutMs = longProperty(props, "db.pool.idleTimeoutMs", 300_000L);
+        this.connectionTimeoutMs = longProperty(props, "db.pool.connectionTimeoutMs", 30_000L);
+        this.validationTimeoutSeconds = intProperty(props, "db.pool.validationTimeoutSeconds", 2);
+        this.leakDetectionThresholdMs = longProperty(props, "db.pool.leakDetectionThresholdMs", 0L);
+        this.permits = new Semaphore(maxSize, true);
+
+        try {
+            Class.forName(props.getProperty("db.driver"));
+        } catch (ClassNotFoundException e) {
+            throw new DatabaseException("Database driver not found", e);
+        }
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ConnectionPoolHousekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1_000L, Math.min(idleTimeoutMs, 30_000L));
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+        try {
+            if (!permits.tryAcquire(connectionTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out after " + connectionTimeoutMs
+                        + "ms waiting for a database connection (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeValidIdle();
+            if (pooled == null) {
+                pooled = createPhysical();
+            }
+            pooled.borrowedAt = System.currentTimeMillis();
+            pooled.leakReported = false;
+            pooled.borrowTrace = leakDetectionThresholdMs > 0
+                    ? new Exception("Connection borrowed here") : null;
+            borrowed.put(pooled, Boolean.TRUE);
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        housekeeper.shutdownNow();
+        synchronized (idle) {
+            for (PooledConnection pooled : idle) {
+                closeQuietly(pooled);
+            }
+            idle.clear();
+        }
+        for (PooledConnection pooled : borrowed.keySet()) {
+            closeQuietly(pooled);
+        }
+        borrowed.clear();
+    }
+
+    public synchronized int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getIdleConnections() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    public int getActiveConnections() {
+        return borrowed.size();
+    }
+
+    private PooledConnection takeValidIdle() {
+        while (true) {
+            PooledConnection pooled;
+            synchronized (idle) {
+                pooled = idle.pollFirst();
+            }
+            if (pooled == null) {
+                return null;
+            }
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            closeQuietly(pooled);
+        }
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            return !pooled.physical.isClosed() && pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection createPhysical() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, connectionProps);
+        synchronized (this) {
+            totalConnections++;
+        }
+        return new PooledConnection(physical);
+    }
+
+    private void release(PooledConnection pooled) {
+        if (borrowed.remove(pooled) == null) {
+            return;
+        }
+        boolean reusable = !shutdown;
+        try {
+            if (reusable && !pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            if (reusable && pooled.physical.isReadOnly()) {
+                pooled.physical.setReadOnly(false);
+            }
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        if (reusable) {
+            pooled.lastReturnedAt = System.currentTimeMillis();
+            synchronized (idle) {
+                idle.addFirst(pooled);
+            }
+        } else {
+            closeQuietly(pooled);
+        }
+        permits.release();
+    }
+
+    private void closeQuietly(PooledConnection pooled) {
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error closing pooled connection", e);
+        }
+        synchronized (this) {
+            totalConnections--;
+        }
+    }
+
+    private void houseKeep() {
+        long now = System.currentTimeMillis();
+
+        // Evict connections idle for longer than the timeout, keeping at least minSize open
+        synchronized (idle) {
+            while (!idle.isEmpty() && getTotalConnections() > minSize) {
+                PooledConnection oldest = idle.peekLast();
+                if (now - oldest.lastReturnedAt < idleTimeoutMs) {
+                    break;
+                }
+                idle.pollLast();
+                closeQuietly(oldest);
+            }
+        }
+
+        // Top the pool back up to minSize so the next borrow skips the handshake
+        while (!shutdown && getTotalConnections() < minSize) {
+            try {
+                PooledConnection pooled = createPhysical();
+                synchronized (idle) {
+                    idle.addLast(pooled);
+                }
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Unable to pre-open pooled connection", e);
+                break;
+            }
+        }
+
+        if (leakDetectionThresholdMs > 0) {
+            for (PooledConnection pooled : borrowed.keySet()) {
+                if (!pooled.leakReported && now - pooled.borrowedAt > leakDetectionThresholdMs) {
+                    pooled.leakReported = true;
+                    LOGGER.log(Level.WARNING, "Possible connection leak: connection held for "
+                            + (now - pooled.borrowedAt) + "ms", pooled.borrowTrace);
+                }
+            }
+        }
+    }
+
+    private static int intProperty(Properties props, String key, int defaultValue) {
+        return (int) longProperty(props, key, defaultValue);
+    }
+
+    private static long longProperty(Properties props, String key, long defaultValue) {
+        String value = props.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private final class PooledConnection {
+        private final Connection physical;
+        private volatile long borrowedAt;
+        private volatile long lastReturnedAt = System.currentTimeMillis();
+        private volatile boolean leakReported;
+        private volatile Exception borrowTrace;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Handle(this));
+        }
+    }
+
+    /**
+     * Logical connection handed to callers; closing it only returns the physical connection.
+     */
+    private final class Handle implements InvocationHandler {
+        private final PooledConnection pooled;
+        // Another thread may close the handle; the connection is released exactly once
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (closed.compareAndSet(false, true)) {
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed.get() || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+            if (closed.get()) {
+                throw new SQLException("Connection is closed");
+            }
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
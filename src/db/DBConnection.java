@@ -2,47 +2,55 @@ package db;
 
 import exception.DatabaseException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 import utils.ConfigLoader;
 
 public class DBConnection {
-    private static Connection connection = null;
     private static final Properties dbProps = ConfigLoader.loadDatabaseProperties();
-    
+    private static ConnectionPool pool = null;
+
     private DBConnection() {
     }
-    
+
+    /**
+     * Borrows a connection from the pool. Closing the returned connection
+     * hands it back to the pool rather than closing the socket.
+     */
     public static Connection getConnection() throws DatabaseException {
         try {
-            if (connection == null || connection.isClosed()) {
-                String url = dbProps.getProperty("db.url");
-                String username = dbProps.getProperty("db.username");
-                String password = dbProps.getProperty("db.password");
-                
-                // Register JDBC driver
-                Class.forName(dbProps.getProperty("db.driver"));
-                
-                // Open connection
-                connection = DriverManager.getConnection(url, username, password);
-            }
-            return connection;
-        } catch (ClassNotFoundException e) {
-            throw new DatabaseException("Database driver not found", e);
+            return getPool().getConnection();
         } catch (SQLException e) {
-            e.printStackTrace();
             throw new DatabaseException("Failed to connect to database", e);
         }
     }
+
+    /**
+     * Rows per executeBatch call for the CrudService bulk methods (db.batchSize, default 500)
+     */
+    public static int getBatchSize() {
+        return positiveIntProperty("db.batchSize", 500);
+    }
     
-    public static void closeConnection() throws DatabaseException {
+    private static int positiveIntProperty(String key, int defaultValue) {
         try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-            }
-        } catch (SQLException e) {
-            throw new DatabaseException("Failed to close database connection", e);
+            return Math.max(1, Integer.parseInt(dbProps.getProperty(key, String.valueOf(defaultValue)).trim()));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
+    public static synchronized ConnectionPool getPool() throws DatabaseException {
+        if (pool == null) {
+            pool = new ConnectionPool(dbProps);
+        }
+        return pool;
+    }
+
+    public static synchronized void closeConnection() throws DatabaseException {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
         }
     }
 }
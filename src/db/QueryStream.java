@@ -0,0 +1,76 @@
+package db;
+
+import exception.DatabaseException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Exposes a query as a lazily read Stream. The statement is streamed row by row
+ * (fetch size Integer.MIN_VALUE), so client memory stays bounded however large the
+ * table is. Unlike useCursorFetch this keeps the plain text protocol, so the pool's
+ * other statements are not turned into server-side prepared statements. Closing
+ * the stream early still reads the remaining rows off the socket.
+ * The stream holds a pooled connection until it is closed, so callers must use
+ * try-with-resources.
+ */
+public final class QueryStream {
+
+    private QueryStream() {
+    }
+
+    public static <T> Stream<T> of(String sql, RowMapper<T> mapper, String errorMessage, Object... params) {
+        Connection conn = DBConnection.getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(rs, stmt, conn);
+            throw new DatabaseException(errorMessage, e);
+        }
+
+        ResultSet resultSet = rs;
+        PreparedStatement statement = stmt;
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(resultSet));
+                    return true;
+                } catch (SQLException e) {
+                    throw new DatabaseException(errorMessage, e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false)
+                .onClose(() -> closeQuietly(resultSet, statement, conn));
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception ignored) {
+                    // Closing is best effort; the pool discards broken connections
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package exception;
+//venue already has an event on the requested date
+import java.util.Date;
+
+public class BookingConflictException extends ValidationException {
+    private final int venueId;
+    private final Date date;
+    private final int conflictingEventId;
+    private final Date nextFreeDate;
+    
+    public BookingConflictException(int venueId, Date date, int conflictingEventId, Date nextFreeDate) {
+        super("Venue " + venueId + " is already booked on " + new java.sql.Date(date.getTime())
+                + " by event " + conflictingEventId + "; next free date is " + new java.sql.Date(nextFreeDate.getTime()));
+        this.venueId = venueId;
+        this.date = date;
+        this.conflictingEventId = conflictingEventId;
+        this.nextFreeDate = nextFreeDate;
+    }
+    
+    public int getVenueId() {
+        return venueId;
+    }
+    
+    public Date getDate() {
+        return date;
+    }
+    
+    public int getConflictingEventId() {
+        return conflictingEventId;
+    }
+    
+    public Date getNextFreeDate() {
+        return nextFreeDate;
+    }
+}
@@ -0,0 +1,11 @@
+package exception;
+//export file cannot be written
+public class ExportException extends RuntimeException {
+    public ExportException(String message) {
+        super(message);
+    }
+    
+    public ExportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package exception;
+//import file cannot be read or is not in the expected format
+public class ImportException extends RuntimeException {
+    public ImportException(String message) {
+        super(message);
+    }
+    
+    public ImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
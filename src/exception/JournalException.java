@@ -0,0 +1,11 @@
+package exception;
+//local journal file cannot be read or written
+public class JournalException extends RuntimeException {
+    public JournalException(String message) {
+        super(message);
+    }
+    
+    public JournalException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
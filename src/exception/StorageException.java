@@ -0,0 +1,11 @@
+package exception;
+//document file cannot be stored or read
+public class StorageException extends RuntimeException {
+    public StorageException(String message) {
+        super(message);
+    }
+    
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,89 @@
+package model;
+
+import java.util.Date;
+import utils.ValidationUtils;
+
+public class Announcement extends BaseModel {
+    private int announcementId;
+    private int clubId;
+    private String title;
+    private String content;
+    private Date announcementDate;
+    // Display only, filled in by feed queries
+    private String clubName;
+    
+    public Announcement() {
+    }
+    
+    public Announcement(int announcementId, int clubId, String title, String content, Date announcementDate) {
+        this.announcementId = announcementId;
+        this.clubId = clubId;
+        this.title = title;
+        this.content = content;
+        this.announcementDate = announcementDate;
+    }
+    
+    public int getAnnouncementId() {
+        return announcementId;
+    }
+    
+    public void setAnnouncementId(int announcementId) {
+        this.announcementId = announcementId;
+    }
+    
+    public int getClubId() {
+        return clubId;
+    }
+    
+    public void setClubId(int clubId) {
+        this.clubId = clubId;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public Date getAnnouncementDate() {
+        return announcementDate;
+    }
+    
+    public void setAnnouncementDate(Date announcementDate) {
+        this.announcementDate = announcementDate;
+    }
+    
+    public String getClubName() {
+        return clubName;
+    }
+    
+    public void setClubName(String clubName) {
+        this.clubName = clubName;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return clubId > 0 &&
+               ValidationUtils.isNotEmpty(title);
+    }
+    
+    @Override
+    public String toString() {
+        return "Announcement{" +
+                "announcementId=" + announcementId +
+                ", clubId=" + clubId +
+                ", title='" + title + '\'' +
+                ", announcementDate=" + announcementDate +
+                '}';
+    }
+}
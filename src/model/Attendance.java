@@ -0,0 +1,79 @@
+package model;
+
+import java.util.Date;
+
+public class Attendance extends BaseModel {
+    public static final String PRESENT = "Present";
+
+    private int attendanceId;
+    private int memberId;
+    private int eventId;
+    private String attendanceStatus;
+    private Date checkedInAt;
+    
+    public Attendance() {
+    }
+    
+    public Attendance(int memberId, int eventId, String attendanceStatus, Date checkedInAt) {
+        this.memberId = memberId;
+        this.eventId = eventId;
+        this.attendanceStatus = attendanceStatus;
+        this.checkedInAt = checkedInAt;
+    }
+    
+    public int getAttendanceId() {
+        return attendanceId;
+    }
+    
+    public void setAttendanceId(int attendanceId) {
+        this.attendanceId = attendanceId;
+    }
+    
+    public int getMemberId() {
+        return memberId;
+    }
+    
+    public void setMemberId(int memberId) {
+        this.memberId = memberId;
+    }
+    
+    public int getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(int eventId) {
+        this.eventId = eventId;
+    }
+    
+    public String getAttendanceStatus() {
+        return attendanceStatus;
+    }
+    
+    public void setAttendanceStatus(String attendanceStatus) {
+        this.attendanceStatus = attendanceStatus;
+    }
+    
+    public Date getCheckedInAt() {
+        return checkedInAt;
+    }
+    
+    public void setCheckedInAt(Date checkedInAt) {
+        this.checkedInAt = checkedInAt;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return memberId > 0 && eventId > 0;
+    }
+    
+    @Override
+    public String toString() {
+        return "Attendance{" +
+                "attendanceId=" + attendanceId +
+                ", memberId=" + memberId +
+                ", eventId=" + eventId +
+                ", attendanceStatus='" + attendanceStatus + '\'' +
+                ", checkedInAt=" + checkedInAt +
+                '}';
+    }
+}
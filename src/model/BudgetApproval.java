@@ -0,0 +1,71 @@
+package model;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import utils.ValidationUtils;
+
+public class BudgetApproval extends BaseModel {
+    private int approvalId;
+    private int requestId;
+    private BigDecimal approvedAmount;
+    private Date approvalDate;
+    
+    public BudgetApproval() {
+    }
+    
+    public BudgetApproval(int approvalId, int requestId, BigDecimal approvedAmount, Date approvalDate) {
+        this.approvalId = approvalId;
+        this.requestId = requestId;
+        this.approvedAmount = approvedAmount;
+        this.approvalDate = approvalDate;
+    }
+    
+    public int getApprovalId() {
+        return approvalId;
+    }
+    
+    public void setApprovalId(int approvalId) {
+        this.approvalId = approvalId;
+    }
+    
+    public int getRequestId() {
+        return requestId;
+    }
+    
+    public void setRequestId(int requestId) {
+        this.requestId = requestId;
+    }
+    
+    public BigDecimal getApprovedAmount() {
+        return approvedAmount;
+    }
+    
+    public void setApprovedAmount(BigDecimal approvedAmount) {
+        this.approvedAmount = approvedAmount;
+    }
+    
+    public Date getApprovalDate() {
+        return approvalDate;
+    }
+    
+    public void setApprovalDate(Date approvalDate) {
+        this.approvalDate = approvalDate;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return approvalId > 0 &&
+               requestId > 0 &&
+               ValidationUtils.isNonNegative(approvedAmount);
+    }
+    
+    @Override
+    public String toString() {
+        return "BudgetApproval{" +
+                "approvalId=" + approvalId +
+                ", requestId=" + requestId +
+                ", approvedAmount=" + approvedAmount +
+                ", approvalDate=" + approvalDate +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package model;
+
+import java.math.BigDecimal;
+import utils.ValidationUtils;
+
+public class BudgetRequest extends BaseModel {
+    private int requestId;
+    private int clubId;
+    private Integer eventId;
+    private BigDecimal amountRequested;
+    private String reason;
+    private String status;
+    
+    public BudgetRequest() {
+    }
+    
+    public BudgetRequest(int requestId, int clubId, Integer eventId, BigDecimal amountRequested,
+                         String reason, String status) {
+        this.requestId = requestId;
+        this.clubId = clubId;
+        this.eventId = eventId;
+        this.amountRequested = amountRequested;
+        this.reason = reason;
+        this.status = status;
+    }
+    
+    public int getRequestId() {
+        return requestId;
+    }
+    
+    public void setRequestId(int requestId) {
+        this.requestId = requestId;
+    }
+    
+    public int getClubId() {
+        return clubId;
+    }
+    
+    public void setClubId(int clubId) {
+        this.clubId = clubId;
+    }
+    
+    /**
+     * Event the money is for, or null for a club-wide request
+     */
+    public Integer getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(Integer eventId) {
+        this.eventId = eventId;
+    }
+    
+    public BigDecimal getAmountRequested() {
+        return amountRequested;
+    }
+    
+    public void setAmountRequested(BigDecimal amountRequested) {
+        this.amountRequested = amountRequested;
+    }
+    
+    public String getReason() {
+        return reason;
+    }
+    
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return requestId > 0 &&
+               clubId > 0 &&
+               ValidationUtils.isNonNegative(amountRequested);
+    }
+    
+    @Override
+    public String toString() {
+        return "BudgetRequest{" +
+                "requestId=" + requestId +
+                ", clubId=" + clubId +
+                ", eventId=" + eventId +
+                ", amountRequested=" + amountRequested +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable money totals for one club or one event. Amounts are exact
+ * (BigDecimal, as stored in the DECIMAL(10,2) columns) and never null.
+ */
+public final class BudgetSummary {
+    private final int id;
+    private final String name;
+    private final int requestCount;
+    private final BigDecimal requested;
+    private final BigDecimal approved;
+    private final BigDecimal sponsored;
+    
+    public BudgetSummary(int id, String name, int requestCount, BigDecimal requested,
+                         BigDecimal approved, BigDecimal sponsored) {
+        this.id = id;
+        this.name = name;
+        this.requestCount = requestCount;
+        this.requested = requested != null ? requested : BigDecimal.ZERO;
+        this.approved = approved != null ? approved : BigDecimal.ZERO;
+        this.sponsored = sponsored != null ? sponsored : BigDecimal.ZERO;
+    }
+    
+    /**
+     * Club or event ID, depending on what was summarised
+     */
+    public int getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getRequestCount() {
+        return requestCount;
+    }
+    
+    public BigDecimal getRequested() {
+        return requested;
+    }
+    
+    public BigDecimal getApproved() {
+        return approved;
+    }
+    
+    public BigDecimal getSponsored() {
+        return sponsored;
+    }
+    
+    /**
+     * Requested but not (yet) approved
+     */
+    public BigDecimal getOutstanding() {
+        return requested.subtract(approved).max(BigDecimal.ZERO);
+    }
+    
+    /**
+     * Money available: approved funding plus sponsorship
+     */
+    public BigDecimal getFunded() {
+        return approved.add(sponsored);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Budget - %s: requested %s, approved %s, sponsored %s",
+                name, requested.toPlainString(), approved.toPlainString(), sponsored.toPlainString());
+    }
+}
@@ -0,0 +1,24 @@
+package model;
+
+/**
+ * Club together with its current member count, as shown in the Clubs grid.
+ */
+public class ClubView extends Club {
+    private int memberCount;
+    
+    public ClubView() {
+    }
+    
+    public ClubView(Club club, int memberCount) {
+        super(club.getClubId(), club.getClubName(), club.getClubDescription());
+        this.memberCount = memberCount;
+    }
+    
+    public int getMemberCount() {
+        return memberCount;
+    }
+    
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+}
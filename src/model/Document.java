@@ -0,0 +1,125 @@
+package model;
+
+import java.util.Date;
+import utils.ValidationUtils;
+
+public class Document extends BaseModel {
+    private int documentId;
+    private int clubId;
+    private Integer eventId;
+    private String title;
+    private String filePath;
+    private Date uploadDate;
+    private String contentHash;
+    private long sizeBytes;
+    private String originalName;
+    
+    public Document() {
+    }
+    
+    public Document(int clubId, Integer eventId, String title, String originalName) {
+        this.clubId = clubId;
+        this.eventId = eventId;
+        this.title = title;
+        this.originalName = originalName;
+    }
+    
+    public int getDocumentId() {
+        return documentId;
+    }
+    
+    public void setDocumentId(int documentId) {
+        this.documentId = documentId;
+    }
+    
+    public int getClubId() {
+        return clubId;
+    }
+    
+    public void setClubId(int clubId) {
+        this.clubId = clubId;
+    }
+    
+    /**
+     * Event the document belongs to, or null for a club document
+     */
+    public Integer getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(Integer eventId) {
+        this.eventId = eventId;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    /**
+     * Location of the content, relative to the storage directory for stored
+     * documents; older rows may hold an absolute path
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+    
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+    
+    public Date getUploadDate() {
+        return uploadDate;
+    }
+    
+    public void setUploadDate(Date uploadDate) {
+        this.uploadDate = uploadDate;
+    }
+    
+    /**
+     * Hex SHA-256 of the content, or null for rows stored before hashing
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+    
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+    
+    public String getOriginalName() {
+        return originalName;
+    }
+    
+    public void setOriginalName(String originalName) {
+        this.originalName = originalName;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return clubId > 0 &&
+               ValidationUtils.isNotEmpty(title);
+    }
+    
+    @Override
+    public String toString() {
+        return "Document{" +
+                "documentId=" + documentId +
+                ", clubId=" + clubId +
+                ", title='" + title + '\'' +
+                ", filePath='" + filePath + '\'' +
+                ", sizeBytes=" + sizeBytes +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+package model;
+
+/**
+ * Read-only projection of an event joined with its club and venue names,
+ * used to fill the Events grid without a lookup per row.
+ */
+public class EventView extends Event {
+    private String clubName;
+    private String venueName;
+    
+    public EventView() {
+    }
+    
+    public String getClubName() {
+        return clubName;
+    }
+    
+    public void setClubName(String clubName) {
+        this.clubName = clubName;
+    }
+    
+    public String getVenueName() {
+        return venueName;
+    }
+    
+    public void setVenueName(String venueName) {
+        this.venueName = venueName;
+    }
+    
+    public String getVenueDisplayName() {
+        return venueName != null ? venueName : String.valueOf(getVenueId());
+    }
+}
@@ -0,0 +1,60 @@
+package model;
+
+/**
+ * Immutable rating totals for one event (or for all events when eventId is 0).
+ */
+public final class FeedbackSummary {
+    private final int eventId;
+    private final long count;
+    private final long sum;
+    private final int[] histogram;
+    
+    public FeedbackSummary(int eventId, long count, long sum, int[] histogram) {
+        this.eventId = eventId;
+        this.count = count;
+        this.sum = sum;
+        this.histogram = histogram.clone();
+    }
+    
+    public int getEventId() {
+        return eventId;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public long getSum() {
+        return sum;
+    }
+    
+    /**
+     * Mean rating, or 0 when there is no feedback
+     */
+    public double getAverage() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+    
+    /**
+     * Number of ratings with the given value (1-5)
+     */
+    public int getRatingCount(int rating) {
+        return rating >= 1 && rating <= histogram.length ? histogram[rating - 1] : 0;
+    }
+    
+    public boolean hasRatings() {
+        return count > 0;
+    }
+    
+    /**
+     * "4.3 (12)", or an empty string when there is no feedback
+     */
+    public String getDisplayText() {
+        return count == 0 ? "" : String.format("%.1f (%d)", getAverage(), count);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Feedback - Event: %d, Ratings: %d, Average: %.2f", eventId, count, getAverage());
+    }
+}
@@ -0,0 +1,19 @@
+package model;
+
+/**
+ * Read-only projection of a member joined with the name of their club.
+ */
+public class MemberView extends Member {
+    private String clubName;
+    
+    public MemberView() {
+    }
+    
+    public String getClubName() {
+        return clubName;
+    }
+    
+    public void setClubName(String clubName) {
+        this.clubName = clubName;
+    }
+}
@@ -0,0 +1,87 @@
+package model;
+
+import java.util.Date;
+
+/**
+ * One full-text search result: a club, event or announcement with the start of
+ * its text and the relevance score MySQL gave it. Scores are only comparable
+ * between hits of the same kind in one search.
+ */
+public final class SearchHit {
+    
+    public enum Kind {
+        CLUB("Club"), EVENT("Event"), ANNOUNCEMENT("Announcement");
+        
+        private final String label;
+        
+        Kind(String label) {
+            this.label = label;
+        }
+        
+        public String getLabel() {
+            return label;
+        }
+    }
+    
+    private final Kind kind;
+    private final int id;
+    private final String title;
+    private final String snippet;
+    private final String clubName;
+    private final Date date;
+    private final double relevance;
+    
+    public SearchHit(Kind kind, int id, String title, String snippet, String clubName, Date date, double relevance) {
+        this.kind = kind;
+        this.id = id;
+        this.title = title;
+        this.snippet = snippet;
+        this.clubName = clubName;
+        this.date = date;
+        this.relevance = relevance;
+    }
+    
+    public Kind getKind() {
+        return kind;
+    }
+    
+    public int getId() {
+        return id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    /**
+     * Leading characters of the description or content, or null when there is none
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+    
+    public String getClubName() {
+        return clubName;
+    }
+    
+    /**
+     * Event or announcement date; null for clubs
+     */
+    public Date getDate() {
+        return date;
+    }
+    
+    public double getRelevance() {
+        return relevance;
+    }
+    
+    @Override
+    public String toString() {
+        return "SearchHit{" +
+                "kind=" + kind +
+                ", id=" + id +
+                ", title='" + title + '\'' +
+                ", relevance=" + relevance +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package model;
+
+import java.math.BigDecimal;
+import utils.ValidationUtils;
+
+public class Sponsorship extends BaseModel {
+    private int sponsorId;
+    private String sponsorName;
+    private int eventId;
+    private BigDecimal amount;
+    
+    public Sponsorship() {
+    }
+    
+    public Sponsorship(int sponsorId, String sponsorName, int eventId, BigDecimal amount) {
+        this.sponsorId = sponsorId;
+        this.sponsorName = sponsorName;
+        this.eventId = eventId;
+        this.amount = amount;
+    }
+    
+    public int getSponsorId() {
+        return sponsorId;
+    }
+    
+    public void setSponsorId(int sponsorId) {
+        this.sponsorId = sponsorId;
+    }
+    
+    public String getSponsorName() {
+        return sponsorName;
+    }
+    
+    public void setSponsorName(String sponsorName) {
+        this.sponsorName = sponsorName;
+    }
+    
+    public int getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(int eventId) {
+        this.eventId = eventId;
+    }
+    
+    public BigDecimal getAmount() {
+        return amount;
+    }
+    
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return sponsorId > 0 &&
+               eventId > 0 &&
+               ValidationUtils.isNotEmpty(sponsorName) &&
+               ValidationUtils.isNonNegative(amount);
+    }
+    
+    @Override
+    public String toString() {
+        return "Sponsorship{" +
+                "sponsorId=" + sponsorId +
+                ", sponsorName='" + sponsorName + '\'' +
+                ", eventId=" + eventId +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package model;
+
+import java.util.Date;
+
+/**
+ * Immutable point-in-time view of the dashboard statistics.
+ * The latest* fields may be null when the corresponding table is empty.
+ */
+public final class StatsSnapshot {
+    private final int clubCount;
+    private final int memberCount;
+    private final int eventCount;
+    private final Club latestClub;
+    private final Member latestMember;
+    private final Event latestEvent;
+    private final FeedbackSummary feedback;
+    private final Date takenAt;
+    
+    public StatsSnapshot(int clubCount, int memberCount, int eventCount,
+                         Club latestClub, Member latestMember, Event latestEvent) {
+        this(clubCount, memberCount, eventCount, latestClub, latestMember, latestEvent, null);
+    }
+    
+    public StatsSnapshot(int clubCount, int memberCount, int eventCount,
+                         Club latestClub, Member latestMember, Event latestEvent, FeedbackSummary feedback) {
+        this.clubCount = clubCount;
+        this.memberCount = memberCount;
+        this.eventCount = eventCount;
+        this.latestClub = latestClub;
+        this.latestMember = latestMember;
+        this.latestEvent = latestEvent;
+        this.feedback = feedback;
+        this.takenAt = new Date();
+    }
+    
+    public int getClubCount() {
+        return clubCount;
+    }
+    
+    public int getMemberCount() {
+        return memberCount;
+    }
+    
+    public int getEventCount() {
+        return eventCount;
+    }
+    
+    public Club getLatestClub() {
+        return latestClub;
+    }
+    
+    public Member getLatestMember() {
+        return latestMember;
+    }
+    
+    public Event getLatestEvent() {
+        return latestEvent;
+    }
+    
+    /**
+     * Ratings over all events, or null when feedback is not tracked
+     */
+    public FeedbackSummary getFeedback() {
+        return feedback;
+    }
+    
+    public Date getTakenAt() {
+        return new Date(takenAt.getTime());
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Statistics - Clubs: %d, Members: %d, Events: %d", 
+                clubCount, memberCount, eventCount);
+    }
+}
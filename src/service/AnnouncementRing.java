@@ -0,0 +1,107 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import model.Announcement;
+
+/**
+ * The newest announcements of one feed, newest first, in a fixed-size circular
+ * array. A new announcement is written at the head in O(1), overwriting the
+ * oldest one once the ring is full. A ring that has never dropped anything and
+ * is not full holds the whole feed ("complete"), so it can also answer for
+ * pages past its end.
+ */
+final class AnnouncementRing {
+
+    /** Feed order: newest date first (undated last), then highest ID first */
+    static final Comparator<Announcement> NEWEST_FIRST = Comparator
+            .comparing(Announcement::getAnnouncementDate, Comparator.nullsLast(Comparator.<Date>reverseOrder()))
+            .thenComparing(Comparator.comparingInt(Announcement::getAnnouncementId).reversed());
+
+    private final Announcement[] slots;
+    private int head;
+    private int size;
+    private boolean complete;
+
+    /**
+     * @param newestFirst the first rows of the feed, at most capacity of them
+     * @param complete whether they are the whole feed
+     */
+    AnnouncementRing(int capacity, List<Announcement> newestFirst, boolean complete) {
+        slots = new Announcement[capacity];
+        for (Announcement announcement : newestFirst) {
+            if (size == capacity) {
+                break;
+            }
+            slots[size++] = announcement;
+        }
+        this.complete = complete && newestFirst.size() <= capacity;
+    }
+
+    /**
+     * Adds a newly written announcement if it belongs among the newest held
+     */
+    synchronized void offer(Announcement announcement) {
+        int capacity = slots.length;
+        if (size == 0 || NEWEST_FIRST.compare(announcement, get(0)) <= 0) {
+            // The usual case: newer than everything held
+            head = (head - 1 + capacity) % capacity;
+            slots[head] = announcement;
+            if (size < capacity) {
+                size++;
+            } else {
+                complete = false;
+            }
+            return;
+        }
+        // Backdated: find its place, shifting the older ones back by one
+        int position = 1;
+        while (position < size && NEWEST_FIRST.compare(get(position), announcement) < 0) {
+            position++;
+        }
+        if (position == size && size == capacity) {
+            complete = false; // older than everything held
+            return;
+        }
+        if (size == capacity) {
+            complete = false;
+        } else {
+            size++;
+        }
+        for (int i = size - 1; i > position; i--) {
+            set(i, get(i - 1));
+        }
+        set(position, announcement);
+    }
+
+    /**
+     * Up to limit announcements older than after (from the start when null), or
+     * null when the ring does not hold enough of the feed to answer
+     */
+    synchronized List<Announcement> page(Announcement after, int limit) {
+        int start = 0;
+        if (after != null) {
+            while (start < size && NEWEST_FIRST.compare(get(start), after) <= 0) {
+                start++;
+            }
+        }
+        if (size - start < limit && !complete) {
+            return null;
+        }
+        List<Announcement> page = new ArrayList<>(Math.min(limit, size - start));
+        for (int i = start; i < size && page.size() < limit; i++) {
+            page.add(get(i));
+        }
+        return page;
+    }
+
+    private Announcement get(int index) {
+        return slots[(head + index) % slots.length];
+    }
+
+    private void set(int index, Announcement announcement) {
+        slots[(head + index) % slots.length] = announcement;
+    }
+}
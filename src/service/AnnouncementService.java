@@ -0,0 +1,306 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import exception.ValidationException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import model.Announcement;
+
+/**
+ * Newest-first announcement feeds, per club and across all clubs
+ * (indexes in database/migrations/006_announcement_feed_indexes.sql).
+ *
+ * Pages are keyset pages on (announcement_date, announcement_id): the next page
+ * continues strictly after the last row of the previous one, so a page costs the
+ * same however deep the reader has scrolled. Each feed's first FEED_SIZE rows are
+ * kept in an AnnouncementRing, loaded with one LIMIT query the first time the feed
+ * is opened and then written through on every save, so opening a feed again does
+ * not touch the database. Updates and deletes drop the rings they affect, which
+ * are reloaded on next use.
+ */
+public class AnnouncementService {
+
+    /** Announcements per feed held in memory */
+    public static final int FEED_SIZE = 50;
+
+    // Key of the all-clubs feed among the per-club rings (club IDs are positive)
+    private static final int ALL_CLUBS = 0;
+
+    private static final String FEED_SELECT =
+            "SELECT a.announcement_id, a.club_id, a.title, a.content, a.announcement_date, c.club_name " +
+            "FROM Announcements a LEFT JOIN Clubs c ON c.club_id = a.club_id";
+    private static final String FEED_ORDER =
+            " ORDER BY a.announcement_date DESC, a.announcement_id DESC LIMIT ?";
+
+    private final int feedSize;
+    private final Map<Integer, AnnouncementRing> feeds = new ConcurrentHashMap<>();
+    // Guards publishing a loaded ring against a write-through that ran while it loaded
+    private final Object feedLock = new Object();
+    private long writes;
+
+    public AnnouncementService() {
+        this(FEED_SIZE);
+    }
+
+    public AnnouncementService(int feedSize) {
+        this.feedSize = Math.max(1, feedSize);
+    }
+
+    /**
+     * The club's announcements after the given one (from the newest when null)
+     */
+    public List<Announcement> findClubPage(int clubId, Announcement after, int limit) {
+        return findPage(clubId, after, limit);
+    }
+
+    /**
+     * Announcements of every club, newest first, after the given one
+     */
+    public List<Announcement> findPage(Announcement after, int limit) {
+        return findPage(ALL_CLUBS, after, limit);
+    }
+
+    public Announcement findById(int announcementId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(FEED_SELECT + " WHERE a.announcement_id = ?")) {
+
+            stmt.setInt(1, announcementId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapAnnouncement(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding announcement by ID: " + announcementId, e);
+        }
+    }
+
+    /**
+     * Posts an announcement, dated today unless it has a date, and returns it with
+     * its new ID
+     */
+    public Announcement save(Announcement announcement) {
+        if (!announcement.isValid()) {
+            throw new ValidationException("Invalid announcement data");
+        }
+        // DATE column: keep the in-memory feeds ordered exactly as the database orders them
+        announcement.setAnnouncementDate(dayOf(announcement.getAnnouncementDate() != null
+                ? announcement.getAnnouncementDate() : new Date()));
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "INSERT INTO Announcements (club_id, title, content, announcement_date) VALUES (?, ?, ?, ?)",
+                     Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setInt(1, announcement.getClubId());
+            stmt.setString(2, announcement.getTitle());
+            stmt.setString(3, announcement.getContent());
+            stmt.setDate(4, new java.sql.Date(announcement.getAnnouncementDate().getTime()));
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    announcement.setAnnouncementId(keys.getInt(1));
+                }
+            }
+            if (announcement.getClubName() == null) {
+                announcement.setClubName(clubName(conn, announcement.getClubId()));
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error saving announcement", e);
+        }
+        synchronized (feedLock) {
+            writes++;
+            offer(announcement.getClubId(), announcement);
+            offer(ALL_CLUBS, announcement);
+        }
+        return announcement;
+    }
+
+    public boolean update(Announcement announcement) {
+        if (!announcement.isValid()) {
+            throw new ValidationException("Invalid announcement data");
+        }
+        Announcement previous = findById(announcement.getAnnouncementId());
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "UPDATE Announcements SET club_id = ?, title = ?, content = ?, announcement_date = ? " +
+                     "WHERE announcement_id = ?")) {
+
+            stmt.setInt(1, announcement.getClubId());
+            stmt.setString(2, announcement.getTitle());
+            stmt.setString(3, announcement.getContent());
+            if (announcement.getAnnouncementDate() != null) {
+                stmt.setDate(4, new java.sql.Date(announcement.getAnnouncementDate().getTime()));
+            } else {
+                stmt.setNull(4, Types.DATE);
+            }
+            stmt.setInt(5, announcement.getAnnouncementId());
+            if (stmt.executeUpdate() == 0) {
+                return false;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error updating announcement", e);
+        }
+        dropFeeds(announcement.getClubId(), previous != null ? previous.getClubId() : ALL_CLUBS);
+        return true;
+    }
+
+    public boolean delete(int announcementId) {
+        Announcement previous = findById(announcementId);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM Announcements WHERE announcement_id = ?")) {
+
+            stmt.setInt(1, announcementId);
+            if (stmt.executeUpdate() == 0) {
+                return false;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error deleting announcement", e);
+        }
+        dropFeeds(previous != null ? previous.getClubId() : ALL_CLUBS);
+        return true;
+    }
+
+    /**
+     * Forgets a deleted or renamed club's feed; the all-clubs feed shows club names
+     * so it is reloaded too
+     */
+    public void clubChanged(int clubId) {
+        dropFeeds(clubId);
+    }
+
+    /**
+     * Forgets every cached feed, e.g. after changes made outside the application
+     */
+    public void invalidate() {
+        synchronized (feedLock) {
+            writes++;
+            feeds.clear();
+        }
+    }
+
+    private List<Announcement> findPage(int feed, Announcement after, int limit) {
+        AnnouncementRing ring = feeds.get(feed);
+        if (ring == null && after == null) {
+            ring = loadFeed(feed);
+        }
+        if (ring != null) {
+            List<Announcement> page = ring.page(after, limit);
+            if (page != null) {
+                return page;
+            }
+        }
+        return query(feed, after, limit);
+    }
+
+    private AnnouncementRing loadFeed(int feed) {
+        long before;
+        synchronized (feedLock) {
+            before = writes;
+        }
+        List<Announcement> newest = query(feed, null, feedSize + 1);
+        AnnouncementRing ring = new AnnouncementRing(feedSize, newest, newest.size() <= feedSize);
+        synchronized (feedLock) {
+            // A save that finished while this loaded may be missing from it; serve it once, don't keep it
+            if (writes == before) {
+                AnnouncementRing existing = feeds.putIfAbsent(feed, ring);
+                return existing != null ? existing : ring;
+            }
+        }
+        return ring;
+    }
+
+    private List<Announcement> query(int feed, Announcement after, int limit) {
+        StringBuilder sql = new StringBuilder(FEED_SELECT);
+        List<Object> params = new ArrayList<>();
+        String clause = " WHERE ";
+        if (feed != ALL_CLUBS) {
+            sql.append(clause).append("a.club_id = ?");
+            params.add(feed);
+            clause = " AND ";
+        }
+        if (after != null && after.getAnnouncementDate() != null) {
+            // Undated rows sort last in DESC order, so they follow every dated row
+            java.sql.Date date = new java.sql.Date(after.getAnnouncementDate().getTime());
+            sql.append(clause).append("(a.announcement_date < ? OR (a.announcement_date = ? AND a.announcement_id < ?)" +
+                    " OR a.announcement_date IS NULL)");
+            params.add(date);
+            params.add(date);
+            params.add(after.getAnnouncementId());
+        } else if (after != null) {
+            sql.append(clause).append("a.announcement_date IS NULL AND a.announcement_id < ?");
+            params.add(after.getAnnouncementId());
+        }
+        sql.append(FEED_ORDER);
+        params.add(limit);
+
+        List<Announcement> announcements = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    announcements.add(mapAnnouncement(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading announcements", e);
+        }
+        return announcements;
+    }
+
+    private void offer(int feed, Announcement announcement) {
+        AnnouncementRing ring = feeds.get(feed);
+        if (ring != null) {
+            ring.offer(announcement);
+        }
+    }
+
+    private void dropFeeds(int... clubIds) {
+        synchronized (feedLock) {
+            writes++;
+            for (int clubId : clubIds) {
+                feeds.remove(clubId);
+            }
+            feeds.remove(ALL_CLUBS);
+        }
+    }
+
+    private static Date dayOf(Date date) {
+        LocalDate day = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private String clubName(Connection conn, int clubId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT club_name FROM Clubs WHERE club_id = ?")) {
+            stmt.setInt(1, clubId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private Announcement mapAnnouncement(ResultSet rs) throws SQLException {
+        Announcement announcement = new Announcement();
+        announcement.setAnnouncementId(rs.getInt("announcement_id"));
+        announcement.setClubId(rs.getInt("club_id"));
+        announcement.setTitle(rs.getString("title"));
+        announcement.setContent(rs.getString("content"));
+        java.sql.Date date = rs.getDate("announcement_date");
+        announcement.setAnnouncementDate(date != null ? new Date(date.getTime()) : null);
+        announcement.setClubName(rs.getString("club_name"));
+        return announcement;
+    }
+}
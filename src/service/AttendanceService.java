@@ -0,0 +1,524 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import exception.JournalException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import model.Attendance;
+
+/**
+ * Door check-ins for events (database/migrations/004_event_attendance_checkin.sql).
+ *
+ * checkIn() never waits for MySQL. A check-in is de-duplicated per (member, event)
+ * in memory and appended to a local journal, which is forced to disk. It is then
+ * queued. A single background thread writes the queue in batches of up to
+ * db.batchSize rows, one transaction per batch. It flushes when a batch fills up
+ * and otherwise every flush interval.
+ *
+ * The journal is a series of segment files (attendance.journal.1, .2, ...). Each
+ * segment is sealed after db.batchSize check-ins and deleted once every row in it
+ * has been written or refused. The journal therefore stays about as large as the
+ * queue, however long check-ins keep arriving. After a crash, start() replays the
+ * segments that are left. Rows that were already written are absorbed by the
+ * unique (member_id, event_id) key.
+ *
+ * The counters are LongAdders and atomics, so the door screen can poll them
+ * without taking a lock.
+ */
+public class AttendanceService implements AutoCloseable {
+
+    public static final Path DEFAULT_JOURNAL = Paths.get("data", "attendance.journal");
+    public static final long DEFAULT_FLUSH_INTERVAL_MS = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO EventAttendance (member_id, event_id, attendance_status, checked_in_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE attendance_id = attendance_id";
+
+    private final Path journalPath;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final Set<Long> seen = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedDeque<Queued> queue = new ConcurrentLinkedDeque<>();
+    private final Object journalLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Rows not yet written or refused, per journal segment
+    private final Map<Long, AtomicInteger> segmentRows = new ConcurrentHashMap<>();
+    // The segment check-ins are appended to, and its row count; guarded by journalLock
+    private FileChannel journal;
+    private long activeSegment = 1;
+    private int activeSegmentRows;
+    private volatile ScheduledExecutorService flusher;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final ConcurrentHashMap<Integer, LongAdder> perEvent = new ConcurrentHashMap<>();
+
+    public AttendanceService() {
+        this(DEFAULT_JOURNAL, DBConnection.getBatchSize(), DEFAULT_FLUSH_INTERVAL_MS);
+    }
+
+    public AttendanceService(Path journalPath, int batchSize, long flushIntervalMillis) {
+        this.journalPath = journalPath;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+    }
+
+    /**
+     * Opens the journal, queues any check-ins left in it by a previous run and
+     * starts the background flushes
+     */
+    public synchronized void start() {
+        if (flusher != null) {
+            return;
+        }
+        replayJournal();
+        try {
+            if (journalPath.getParent() != null) {
+                Files.createDirectories(journalPath.getParent());
+            }
+            synchronized (journalLock) {
+                journal = openSegment(activeSegment);
+            }
+        } catch (IOException e) {
+            throw new JournalException("Cannot open attendance journal " + segmentPath(activeSegment), e);
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "attendance-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, 0, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records that the member arrived at the event. Returns false, and records
+     * nothing, if they were already checked in.
+     */
+    public boolean checkIn(int memberId, int eventId) {
+        if (flusher == null) {
+            throw new IllegalStateException("AttendanceService has not been started");
+        }
+        if (!seen.add(key(memberId, eventId))) {
+            duplicates.increment();
+            return false;
+        }
+        Attendance attendance = new Attendance(memberId, eventId, Attendance.PRESENT, new Date());
+        // Journal and queue change together so a deleted segment never drops a queued row
+        synchronized (journalLock) {
+            try {
+                appendToJournal(attendance);
+            } catch (IOException e) {
+                seen.remove(key(memberId, eventId));
+                throw new JournalException("Cannot record check-in in " + segmentPath(activeSegment), e);
+            }
+            enqueue(attendance, activeSegment);
+            if (++activeSegmentRows >= batchSize) {
+                rotateJournal();
+            }
+        }
+        accepted.increment();
+        eventCounter(eventId).increment();
+        if (pending.get() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the check-ins already stored for the event, so that members who checked
+     * in during an earlier run are reported as duplicates and counted
+     */
+    public void loadEvent(int eventId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT member_id FROM EventAttendance WHERE event_id = ?")) {
+
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (seen.add(key(rs.getInt("member_id"), eventId))) {
+                        eventCounter(eventId).increment();
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading attendance for event " + eventId, e);
+        }
+    }
+
+    public boolean isCheckedIn(int memberId, int eventId) {
+        return seen.contains(key(memberId, eventId));
+    }
+
+    /**
+     * Members checked in to the event, including those not yet written to the database
+     */
+    public long getCheckedInCount(int eventId) {
+        LongAdder counter = perEvent.get(eventId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /** Check-ins accepted but not yet written to the database */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /** Check-ins the database refused, e.g. for an unknown member or event */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /** Flushes that could not reach the database; their rows stay queued */
+    public long getFailedFlushCount() {
+        return failedFlushes.sum();
+    }
+
+    /**
+     * Writes everything queued now and waits for it
+     */
+    public void flush() {
+        if (flusher == null) {
+            return;
+        }
+        try {
+            flusher.submit(this::flushQueue).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new DatabaseException("Error flushing check-ins", cause);
+        }
+    }
+
+    /**
+     * Stops the background flushes after a last attempt to write the queue. Rows
+     * that could not be written stay in the journal for the next start().
+     */
+    @Override
+    public synchronized void close() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.execute(this::flushQuietly);
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flusher = null;
+        synchronized (journalLock) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                throw new JournalException("Cannot close attendance journal " + segmentPath(activeSegment), e);
+            }
+            if (!hasOutstandingRows(activeSegment)) {
+                deleteSegment(activeSegment);
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flushQueue();
+        } catch (RuntimeException e) {
+            // Counted in failedFlushes; the rows are retried on the next tick
+        }
+    }
+
+    // Runs only on the flusher thread
+    private void flushQueue() {
+        flushRequested.set(false);
+        while (!queue.isEmpty()) {
+            List<Queued> batch = new ArrayList<>(batchSize);
+            Queued next;
+            while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            try {
+                writeBatch(batch);
+            } catch (SQLException | DatabaseException e) {
+                // Database unreachable: put the batch back in its original order
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    queue.addFirst(batch.get(i));
+                }
+                failedFlushes.increment();
+                throw e instanceof DatabaseException ? (DatabaseException) e
+                        : new DatabaseException("Error writing check-ins", e);
+            }
+        }
+    }
+
+    private void writeBatch(List<Queued> batch) throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+                    for (Queued queued : batch) {
+                        bind(stmt, queued.attendance);
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    conn.commit();
+                    batches.increment();
+                    written.add(batch.size());
+                    for (Queued queued : batch) {
+                        rowDone(queued);
+                    }
+                } catch (BatchUpdateException e) {
+                    // Some row was refused; write the rest one by one so only it is dropped
+                    conn.rollback();
+                    writeRowByRow(conn, batch);
+                }
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void writeRowByRow(Connection conn, List<Queued> batch) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < batch.size(); i++) {
+                Attendance attendance = batch.get(i).attendance;
+                try {
+                    bind(stmt, attendance);
+                    stmt.executeUpdate();
+                    conn.commit();
+                    written.increment();
+                } catch (SQLIntegrityConstraintViolationException e) {
+                    conn.rollback();
+                    rejected.increment();
+                    eventCounter(attendance.getEventId()).decrement();
+                    // Not checked in after all; the member can check in again once the data is fixed
+                    seen.remove(key(attendance.getMemberId(), attendance.getEventId()));
+                } catch (SQLException e) {
+                    conn.rollback();
+                    // Rows already handled are done; the caller requeues only the rest
+                    batch.subList(0, i).clear();
+                    throw e;
+                }
+                rowDone(batch.get(i));
+            }
+        }
+        batches.increment();
+    }
+
+    private void bind(PreparedStatement stmt, Attendance attendance) throws SQLException {
+        stmt.setInt(1, attendance.getMemberId());
+        stmt.setInt(2, attendance.getEventId());
+        stmt.setString(3, attendance.getAttendanceStatus());
+        stmt.setTimestamp(4, new Timestamp(attendance.getCheckedInAt().getTime()));
+    }
+
+    private void appendToJournal(Attendance attendance) throws IOException {
+        String line = attendance.getMemberId() + "," + attendance.getEventId() + ","
+                + attendance.getCheckedInAt().getTime() + "\n";
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII));
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        journal.force(false);
+    }
+
+    // Caller holds journalLock
+    private void enqueue(Attendance attendance, long segment) {
+        queue.add(new Queued(attendance, segment));
+        segmentRows.computeIfAbsent(segment, s -> new AtomicInteger()).incrementAndGet();
+        pending.incrementAndGet();
+    }
+
+    /**
+     * The row is in the database or was refused; deletes its segment if that was
+     * the segment's last outstanding row and the segment is sealed
+     */
+    private void rowDone(Queued queued) {
+        pending.decrementAndGet();
+        AtomicInteger rows = segmentRows.get(queued.segment);
+        if (rows != null && rows.decrementAndGet() == 0) {
+            synchronized (journalLock) {
+                // A check-in may have reached the segment before it was sealed
+                if (queued.segment != activeSegment && !hasOutstandingRows(queued.segment)) {
+                    deleteSegment(queued.segment);
+                }
+            }
+        }
+    }
+
+    // Caller holds journalLock. On failure check-ins keep going to the current segment.
+    private void rotateJournal() {
+        long sealed = activeSegment;
+        FileChannel next;
+        try {
+            next = openSegment(sealed + 1);
+        } catch (IOException e) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            // Every row was forced when appended; nothing is lost
+        }
+        journal = next;
+        activeSegment = sealed + 1;
+        activeSegmentRows = 0;
+        if (!hasOutstandingRows(sealed)) {
+            deleteSegment(sealed);
+        }
+    }
+
+    private boolean hasOutstandingRows(long segment) {
+        AtomicInteger rows = segmentRows.get(segment);
+        return rows != null && rows.get() > 0;
+    }
+
+    private void deleteSegment(long segment) {
+        segmentRows.remove(segment);
+        try {
+            Files.deleteIfExists(segmentPath(segment));
+        } catch (IOException e) {
+            // A leftover segment is replayed on the next start and absorbed by the unique key
+        }
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        return FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long segment) {
+        return journalPath.resolveSibling(journalPath.getFileName() + "." + segment);
+    }
+
+    /**
+     * Queues the rows of every segment left by a previous run, oldest first, and
+     * starts a new segment after them
+     */
+    private void replayJournal() {
+        List<Long> segments = new ArrayList<>();
+        Path directory = journalPath.toAbsolutePath().getParent();
+        if (Files.isDirectory(directory)) {
+            String prefix = journalPath.getFileName() + ".";
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+                for (Path file : files) {
+                    try {
+                        segments.add(Long.parseLong(file.getFileName().toString().substring(prefix.length())));
+                    } catch (NumberFormatException e) {
+                        // not a segment
+                    }
+                }
+            } catch (IOException e) {
+                throw new JournalException("Cannot list attendance journal " + journalPath, e);
+            }
+        }
+        segments.sort(null);
+        synchronized (journalLock) {
+            for (long segment : segments) {
+                replaySegment(segment);
+                activeSegment = Math.max(activeSegment, segment + 1);
+                if (!hasOutstandingRows(segment)) {
+                    deleteSegment(segment);
+                }
+            }
+        }
+    }
+
+    // Caller holds journalLock
+    private void replaySegment(long segment) {
+        Path path = segmentPath(segment);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts.length != 3) {
+                    continue; // torn last line from a crash mid-write
+                }
+                try {
+                    int memberId = Integer.parseInt(parts[0]);
+                    int eventId = Integer.parseInt(parts[1]);
+                    long time = Long.parseLong(parts[2]);
+                    if (seen.add(key(memberId, eventId))) {
+                        enqueue(new Attendance(memberId, eventId, Attendance.PRESENT, new Date(time)), segment);
+                        accepted.increment();
+                        eventCounter(eventId).increment();
+                    }
+                } catch (NumberFormatException e) {
+                    // torn line, skipped like above
+                }
+            }
+        } catch (IOException e) {
+            throw new JournalException("Cannot read attendance journal " + path, e);
+        }
+    }
+
+    private LongAdder eventCounter(int eventId) {
+        return perEvent.computeIfAbsent(eventId, id -> new LongAdder());
+    }
+
+    private static long key(int memberId, int eventId) {
+        return ((long) memberId << 32) | (eventId & 0xffffffffL);
+    }
+
+    // A queued check-in and the journal segment that holds it
+    private static final class Queued {
+        private final Attendance attendance;
+        private final long segment;
+
+        private Queued(Attendance attendance, long segment) {
+            this.attendance = attendance;
+            this.segment = segment;
+        }
+    }
+}
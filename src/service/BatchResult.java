@@ -0,0 +1,70 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a saveAll/updateAll/deleteAll call. Rows that fail are reported here
+ * individually; the rest of the load is still committed.
+ */
+public class BatchResult {
+
+    public static class Failure {
+        private final int index;
+        private final Object id;
+        private final String message;
+
+        Failure(int index, Object id, String message) {
+            this.index = index;
+            this.id = id;
+            this.message = message;
+        }
+
+        /** Position of the row in the collection passed in */
+        public int getIndex() {
+            return index;
+        }
+
+        public Object getId() {
+            return id;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Row " + index + " (ID " + id + "): " + message;
+        }
+    }
+
+    private int succeeded;
+    private final List<Failure> failures = new ArrayList<>();
+
+    void addSuccess(int count) {
+        succeeded += count;
+    }
+
+    void addFailure(int index, Object id, String message) {
+        failures.add(new Failure(index, id, message));
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public List<Failure> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return succeeded + " succeeded, " + failures.size() + " failed";
+    }
+}
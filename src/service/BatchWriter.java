@@ -0,0 +1,126 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Shared implementation of the CrudService bulk methods.
+ * Rows are sent with addBatch/executeBatch in chunks of db.batchSize, each chunk in
+ * its own transaction. If a chunk fails, it is rolled back and replayed one row at a
+ * time so that only the offending rows are reported and the rest are kept.
+ */
+final class BatchWriter {
+
+    @FunctionalInterface
+    interface Binder<T> {
+        /** Sets the statement parameters for one row; throws ValidationException for bad data */
+        void bind(PreparedStatement stmt, T row) throws SQLException;
+    }
+
+    private BatchWriter() {
+    }
+
+    static <T> BatchResult execute(String sql, Collection<T> rows, Binder<T> binder, Function<T, Object> idOf) {
+        BatchResult result = new BatchResult();
+        if (rows.isEmpty()) {
+            return result;
+        }
+        int batchSize = DBConnection.getBatchSize();
+        List<T> all = new ArrayList<>(rows);
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            for (int start = 0; start < all.size(); start += batchSize) {
+                int end = Math.min(start + batchSize, all.size());
+                executeChunk(conn, sql, all, start, end, binder, idOf, result);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error executing batch", e);
+        }
+        return result;
+    }
+
+    private static <T> void executeChunk(Connection conn, String sql, List<T> all, int start, int end,
+                                         Binder<T> binder, Function<T, Object> idOf, BatchResult result)
+            throws SQLException {
+        List<Integer> batched = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = start; i < end; i++) {
+                T row = all.get(i);
+                try {
+                    binder.bind(stmt, row);
+                    stmt.addBatch();
+                    batched.add(i);
+                } catch (RuntimeException | SQLException e) {
+                    // Any binder failure, not just a validation one, fails only its row
+                    stmt.clearParameters();
+                    result.addFailure(i, idOf.apply(row), describe(e));
+                }
+            }
+            if (batched.isEmpty()) {
+                return;
+            }
+            int[] counts = stmt.executeBatch();
+            conn.commit();
+            recordCounts(counts, batched, all, idOf, result);
+        } catch (BatchUpdateException e) {
+            conn.rollback();
+            replayRowByRow(conn, sql, all, batched, binder, idOf, result);
+        }
+    }
+
+    private static <T> void recordCounts(int[] counts, List<Integer> batched, List<T> all,
+                                         Function<T, Object> idOf, BatchResult result) {
+        // Rewritten multi-row inserts report SUCCESS_NO_INFO rather than one count per row
+        if (counts.length != batched.size()) {
+            result.addSuccess(batched.size());
+            return;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                int index = batched.get(i);
+                result.addFailure(index, idOf.apply(all.get(index)), "No matching row");
+            } else if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                result.addSuccess(1);
+            }
+        }
+    }
+
+    private static <T> void replayRowByRow(Connection conn, String sql, List<T> all, List<Integer> batched,
+                                           Binder<T> binder, Function<T, Object> idOf, BatchResult result)
+            throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int index : batched) {
+                T row = all.get(index);
+                try {
+                    binder.bind(stmt, row);
+                    int affected = stmt.executeUpdate();
+                    conn.commit();
+                    if (affected == 0) {
+                        result.addFailure(index, idOf.apply(row), "No matching row");
+                    } else {
+                        result.addSuccess(1);
+                    }
+                } catch (RuntimeException | SQLException e) {
+                    // The binder may re-check a row, e.g. a venue booking taken by an earlier row
+                    conn.rollback();
+                    result.addFailure(index, idOf.apply(row), describe(e));
+                }
+            }
+        }
+    }
+
+    // e.g. a NullPointerException has no message of its own
+    private static String describe(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.toString();
+    }
+}
@@ -0,0 +1,434 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import exception.ValidationException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import model.BudgetApproval;
+import model.BudgetRequest;
+import model.BudgetSummary;
+import model.Sponsorship;
+
+/**
+ * Budget requests, approvals and sponsorships, and the money totals finance reports on.
+ *
+ * Requested and approved money belongs to the club that made the request.
+ * Sponsorship belongs to the club running the sponsored event. Every rollup is a
+ * single aggregate query with DECIMAL sums read as BigDecimal. Each table is
+ * summed separately before the results are joined. This way a request with
+ * several approvals, or an event with several sponsors, is never counted twice.
+ *
+ * Per-club totals are kept as a summary built once by one query over all clubs.
+ * Each write through this service re-aggregates only the clubs it touched, so
+ * getClubSummaries() never re-reads the full history. invalidate() (e.g. after
+ * a Refresh) rebuilds it on next use.
+ */
+public class BudgetService {
+
+    private static final String CLUB_ROLLUP =
+            "SELECT c.club_id, c.club_name, COALESCE(r.request_count, 0) AS request_count, " +
+            "r.requested, a.approved, s.sponsored " +
+            "FROM Clubs c " +
+            "LEFT JOIN (SELECT club_id, COUNT(*) AS request_count, SUM(amount_requested) AS requested " +
+            "           FROM BudgetRequests GROUP BY club_id) r ON r.club_id = c.club_id " +
+            "LEFT JOIN (SELECT br.club_id, SUM(ba.approved_amount) AS approved " +
+            "           FROM BudgetApprovals ba JOIN BudgetRequests br ON br.request_id = ba.request_id " +
+            "           GROUP BY br.club_id) a ON a.club_id = c.club_id " +
+            "LEFT JOIN (SELECT e.club_id, SUM(sp.amount) AS sponsored " +
+            "           FROM Sponsorships sp JOIN Events e ON e.event_id = sp.event_id " +
+            "           GROUP BY e.club_id) s ON s.club_id = c.club_id";
+
+    // One club, through the club_id/event_id/request_id foreign key indexes
+    private static final String ONE_CLUB_ROLLUP =
+            "SELECT c.club_id, c.club_name, " +
+            "(SELECT COUNT(*) FROM BudgetRequests br WHERE br.club_id = c.club_id) AS request_count, " +
+            "(SELECT SUM(br.amount_requested) FROM BudgetRequests br WHERE br.club_id = c.club_id) AS requested, " +
+            "(SELECT SUM(ba.approved_amount) FROM BudgetApprovals ba " +
+            " JOIN BudgetRequests br ON br.request_id = ba.request_id WHERE br.club_id = c.club_id) AS approved, " +
+            "(SELECT SUM(sp.amount) FROM Sponsorships sp " +
+            " JOIN Events e ON e.event_id = sp.event_id WHERE e.club_id = c.club_id) AS sponsored " +
+            "FROM Clubs c WHERE c.club_id = ?";
+
+    private static final String EVENT_ROLLUP =
+            "SELECT e.event_id, e.event_name, " +
+            "(SELECT COUNT(*) FROM BudgetRequests br WHERE br.event_id = e.event_id) AS request_count, " +
+            "(SELECT SUM(br.amount_requested) FROM BudgetRequests br WHERE br.event_id = e.event_id) AS requested, " +
+            "(SELECT SUM(ba.approved_amount) FROM BudgetApprovals ba " +
+            " JOIN BudgetRequests br ON br.request_id = ba.request_id WHERE br.event_id = e.event_id) AS approved, " +
+            "(SELECT SUM(sp.amount) FROM Sponsorships sp WHERE sp.event_id = e.event_id) AS sponsored " +
+            "FROM Events e WHERE e.club_id = ? ORDER BY e.event_date, e.event_id";
+
+    // Replaced whole on rebuild so readers never see a half-filled summary
+    private volatile Map<Integer, BudgetSummary> clubSummaries = new ConcurrentHashMap<>();
+    private volatile boolean built = false;
+
+    /**
+     * Totals for every club, by club name. Only the first call after startup or
+     * invalidate() queries the database.
+     */
+    public List<BudgetSummary> getClubSummaries() {
+        ensureBuilt();
+        List<BudgetSummary> summaries = new ArrayList<>(clubSummaries.values());
+        summaries.sort(Comparator.comparing(BudgetSummary::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparingInt(BudgetSummary::getId));
+        return summaries;
+    }
+
+    /**
+     * Totals for one club, or null if there is no such club
+     */
+    public BudgetSummary getClubSummary(int clubId) {
+        ensureBuilt();
+        return clubSummaries.get(clubId);
+    }
+
+    /**
+     * Totals over all clubs, added up from the per-club summary
+     */
+    public BudgetSummary getGrandTotal() {
+        ensureBuilt();
+        int requestCount = 0;
+        BigDecimal requested = BigDecimal.ZERO;
+        BigDecimal approved = BigDecimal.ZERO;
+        BigDecimal sponsored = BigDecimal.ZERO;
+        for (BudgetSummary summary : clubSummaries.values()) {
+            requestCount += summary.getRequestCount();
+            requested = requested.add(summary.getRequested());
+            approved = approved.add(summary.getApproved());
+            sponsored = sponsored.add(summary.getSponsored());
+        }
+        return new BudgetSummary(0, "All clubs", requestCount, requested, approved, sponsored);
+    }
+
+    /**
+     * Per-event totals for the club's events, in date order. Computed on demand.
+     */
+    public List<BudgetSummary> findEventSummaries(int clubId) {
+        List<BudgetSummary> summaries = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(EVENT_ROLLUP)) {
+
+            stmt.setInt(1, clubId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    summaries.add(mapSummary(rs, "event_id", "event_name"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading event budgets for club " + clubId, e);
+        }
+        return summaries;
+    }
+
+    public List<BudgetRequest> findRequestsByClub(int clubId) {
+        List<BudgetRequest> requests = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT * FROM BudgetRequests WHERE club_id = ? ORDER BY request_id")) {
+
+            stmt.setInt(1, clubId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    BudgetRequest request = new BudgetRequest();
+                    request.setRequestId(rs.getInt("request_id"));
+                    request.setClubId(rs.getInt("club_id"));
+                    int eventId = rs.getInt("event_id");
+                    request.setEventId(rs.wasNull() ? null : eventId);
+                    request.setAmountRequested(rs.getBigDecimal("amount_requested"));
+                    request.setReason(rs.getString("reason"));
+                    request.setStatus(rs.getString("status"));
+                    requests.add(request);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading budget requests for club " + clubId, e);
+        }
+        return requests;
+    }
+
+    public BudgetRequest saveRequest(BudgetRequest request) {
+        if (!request.isValid()) {
+            throw new ValidationException("Invalid budget request data");
+        }
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "INSERT INTO BudgetRequests (request_id, club_id, event_id, amount_requested, reason, status) " +
+                     "VALUES (?, ?, ?, ?, ?, ?)")) {
+
+            stmt.setInt(1, request.getRequestId());
+            bindRequest(stmt, request, 2);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new DatabaseException("Error saving budget request", e);
+        }
+        clubsChanged(request.getClubId());
+        return request;
+    }
+
+    public boolean updateRequest(BudgetRequest request) {
+        if (!request.isValid()) {
+            throw new ValidationException("Invalid budget request data");
+        }
+        int previousClubId;
+        try (Connection conn = DBConnection.getConnection()) {
+            // The request may move to another club; both clubs' totals change
+            previousClubId = clubOf(conn, "SELECT club_id FROM BudgetRequests WHERE request_id = ?",
+                    request.getRequestId());
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE BudgetRequests SET club_id = ?, event_id = ?, amount_requested = ?, reason = ?, status = ? " +
+                    "WHERE request_id = ?")) {
+                bindRequest(stmt, request, 1);
+                stmt.setInt(6, request.getRequestId());
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error updating budget request", e);
+        }
+        clubsChanged(previousClubId, request.getClubId());
+        return true;
+    }
+
+    /**
+     * Deletes the request together with its approvals
+     */
+    public boolean deleteRequest(int requestId) {
+        int clubId;
+        try (Connection conn = DBConnection.getConnection()) {
+            clubId = clubOf(conn, "SELECT club_id FROM BudgetRequests WHERE request_id = ?", requestId);
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM BudgetApprovals WHERE request_id = ?")) {
+                    stmt.setInt(1, requestId);
+                    stmt.executeUpdate();
+                }
+                int deleted;
+                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM BudgetRequests WHERE request_id = ?")) {
+                    stmt.setInt(1, requestId);
+                    deleted = stmt.executeUpdate();
+                }
+                conn.commit();
+                if (deleted == 0) {
+                    return false;
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error deleting budget request", e);
+        }
+        clubsChanged(clubId);
+        return true;
+    }
+
+    public BudgetApproval saveApproval(BudgetApproval approval) {
+        if (!approval.isValid()) {
+            throw new ValidationException("Invalid budget approval data");
+        }
+        int clubId;
+        try (Connection conn = DBConnection.getConnection()) {
+            clubId = clubOf(conn, "SELECT club_id FROM BudgetRequests WHERE request_id = ?", approval.getRequestId());
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO BudgetApprovals (approval_id, request_id, approved_amount, approval_date) " +
+                    "VALUES (?, ?, ?, ?)")) {
+                stmt.setInt(1, approval.getApprovalId());
+                stmt.setInt(2, approval.getRequestId());
+                stmt.setBigDecimal(3, approval.getApprovedAmount());
+                if (approval.getApprovalDate() != null) {
+                    stmt.setDate(4, new java.sql.Date(approval.getApprovalDate().getTime()));
+                } else {
+                    stmt.setNull(4, Types.DATE);
+                }
+                stmt.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error saving budget approval", e);
+        }
+        clubsChanged(clubId);
+        return approval;
+    }
+
+    public boolean deleteApproval(int approvalId) {
+        int clubId;
+        try (Connection conn = DBConnection.getConnection()) {
+            clubId = clubOf(conn, "SELECT br.club_id FROM BudgetApprovals ba " +
+                    "JOIN BudgetRequests br ON br.request_id = ba.request_id WHERE ba.approval_id = ?", approvalId);
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM BudgetApprovals WHERE approval_id = ?")) {
+                stmt.setInt(1, approvalId);
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error deleting budget approval", e);
+        }
+        clubsChanged(clubId);
+        return true;
+    }
+
+    public Sponsorship saveSponsorship(Sponsorship sponsorship) {
+        if (!sponsorship.isValid()) {
+            throw new ValidationException("Invalid sponsorship data");
+        }
+        int clubId;
+        try (Connection conn = DBConnection.getConnection()) {
+            clubId = clubOf(conn, "SELECT club_id FROM Events WHERE event_id = ?", sponsorship.getEventId());
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO Sponsorships (sponsor_id, sponsor_name, event_id, amount) VALUES (?, ?, ?, ?)")) {
+                stmt.setInt(1, sponsorship.getSponsorId());
+                stmt.setString(2, sponsorship.getSponsorName());
+                stmt.setInt(3, sponsorship.getEventId());
+                stmt.setBigDecimal(4, sponsorship.getAmount());
+                stmt.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error saving sponsorship", e);
+        }
+        clubsChanged(clubId);
+        return sponsorship;
+    }
+
+    public boolean deleteSponsorship(int sponsorId) {
+        int clubId;
+        try (Connection conn = DBConnection.getConnection()) {
+            clubId = clubOf(conn, "SELECT e.club_id FROM Sponsorships sp " +
+                    "JOIN Events e ON e.event_id = sp.event_id WHERE sp.sponsor_id = ?", sponsorId);
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM Sponsorships WHERE sponsor_id = ?")) {
+                stmt.setInt(1, sponsorId);
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error deleting sponsorship", e);
+        }
+        clubsChanged(clubId);
+        return true;
+    }
+
+    /**
+     * Re-reads the given clubs' totals, e.g. after a club is added, renamed or an
+     * event moves between clubs. Does nothing before the summary is first built.
+     */
+    public synchronized void refreshClubs(int... clubIds) {
+        if (!built) {
+            return;
+        }
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(ONE_CLUB_ROLLUP)) {
+            for (int clubId : clubIds) {
+                if (clubId <= 0) {
+                    continue;
+                }
+                stmt.setInt(1, clubId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        clubSummaries.put(clubId, mapSummary(rs, "club_id", "club_name"));
+                    } else {
+                        clubSummaries.remove(clubId);
+                    }
+                }
+            }
+        } catch (SQLException | DatabaseException e) {
+            // A stale summary is worse than a rebuild
+            built = false;
+            throw new DatabaseException("Error refreshing club budget totals", e);
+        }
+    }
+
+    // After a committed write; if the refresh fails the summary is rebuilt on next read
+    private void clubsChanged(int... clubIds) {
+        try {
+            refreshClubs(clubIds);
+        } catch (DatabaseException e) {
+            // built is already false
+        }
+    }
+
+    /**
+     * Drops a deleted club from the summary without a query
+     */
+    public void removeClub(int clubId) {
+        clubSummaries.remove(clubId);
+    }
+
+    /**
+     * Forgets the summary; the next read rebuilds it from the database
+     */
+    public synchronized void invalidate() {
+        built = false;
+    }
+
+    /**
+     * Whether the summary is in memory, so getClubSummaries() returns without a query
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (built) {
+                return;
+            }
+            Map<Integer, BudgetSummary> summaries = new ConcurrentHashMap<>();
+            try (Connection conn = DBConnection.getConnection();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(CLUB_ROLLUP)) {
+                while (rs.next()) {
+                    BudgetSummary summary = mapSummary(rs, "club_id", "club_name");
+                    summaries.put(summary.getId(), summary);
+                }
+            } catch (SQLException e) {
+                throw new DatabaseException("Error loading club budget totals", e);
+            }
+            clubSummaries = summaries;
+            built = true;
+        }
+    }
+
+    private BudgetSummary mapSummary(ResultSet rs, String idColumn, String nameColumn) throws SQLException {
+        return new BudgetSummary(rs.getInt(idColumn), rs.getString(nameColumn), rs.getInt("request_count"),
+                rs.getBigDecimal("requested"), rs.getBigDecimal("approved"), rs.getBigDecimal("sponsored"));
+    }
+
+    private void bindRequest(PreparedStatement stmt, BudgetRequest request, int first) throws SQLException {
+        stmt.setInt(first, request.getClubId());
+        if (request.getEventId() != null) {
+            stmt.setInt(first + 1, request.getEventId());
+        } else {
+            stmt.setNull(first + 1, Types.INTEGER);
+        }
+        stmt.setBigDecimal(first + 2, request.getAmountRequested());
+        stmt.setString(first + 3, request.getReason());
+        stmt.setString(first + 4, request.getStatus());
+    }
+
+    // Club owning the row found by sql, or 0 when there is none
+    private int clubOf(Connection conn, String sql, int id) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of any CrudService keyed by Integer.
+ * findById and findAll are served from memory while entries are younger than the
+ * TTL; at most maxSize entities are kept by ID, least recently used evicted first.
+ * A findAll result is kept only when it has no more than maxSize entities; larger
+ * tables are read through.
+ * save, update and delete go to the delegate and invalidate the affected entries.
+ * Callers get copies, so editing a returned entity (as the dialogs do) never
+ * changes what is cached.
+ */
+public class CachingCrudService<T> implements CrudService<T, Integer> {
+
+    private final CrudService<T, Integer> delegate;
+    private final ToIntFunction<T> idOf;
+    private final UnaryOperator<T> copier;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<Integer, Entry<T>> entries;
+    private Entry<List<T>> allEntities;
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachingCrudService(CrudService<T, Integer> delegate, ToIntFunction<T> idOf,
+                              UnaryOperator<T> copier, int maxSize, long ttlMillis) {
+        this.delegate = delegate;
+        this.idOf = idOf;
+        this.copier = copier;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = ttlMillis;
+        // Access order makes iteration order least recently used first
+        this.entries = new LinkedHashMap<Integer, Entry<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry<T>> eldest) {
+                if (size() > CachingCrudService.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public T findById(Integer id) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<T> entry = entries.get(id);
+            if (entry != null && !entry.isExpired()) {
+                hits.incrementAndGet();
+                return copier.apply(entry.value);
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+        T entity = delegate.findById(id);
+        if (entity != null) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(id, new Entry<>(copier.apply(entity)));
+                }
+            }
+        }
+        return entity;
+    }
+
+    @Override
+    public List<T> findAll() {
+        List<T> cached;
+        long loadGeneration;
+        synchronized (this) {
+            cached = (allEntities != null && !allEntities.isExpired()) ? allEntities.value : null;
+            loadGeneration = generation;
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return copyAll(cached);
+        }
+        misses.incrementAndGet();
+        List<T> loaded = delegate.findAll();
+        if (loaded.size() > maxSize) {
+            // Caching it would exceed the bound and evict every entry kept by ID
+            return loaded;
+        }
+        List<T> snapshot = copyAll(loaded);
+        synchronized (this) {
+            if (generation != loadGeneration) {
+                return loaded;
+            }
+            allEntities = new Entry<>(snapshot);
+            for (T entity : snapshot) {
+                entries.put(idOf.applyAsInt(entity), new Entry<>(entity));
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public T save(T entity) {
+        T saved = delegate.save(entity);
+        invalidate(idOf.applyAsInt(entity));
+        return saved;
+    }
+
+    @Override
+    public boolean update(T entity) {
+        boolean updated = delegate.update(entity);
+        invalidate(idOf.applyAsInt(entity));
+        return updated;
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        boolean deleted = delegate.delete(id);
+        invalidate(id);
+        return deleted;
+    }
+
+    // A bulk write can touch any row, so it drops the whole cache
+
+    @Override
+    public BatchResult saveAll(Collection<T> entities) {
+        try {
+            return delegate.saveAll(entities);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public BatchResult updateAll(Collection<T> entities) {
+        try {
+            return delegate.updateAll(entities);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public BatchResult deleteAll(Collection<Integer> ids) {
+        try {
+            return delegate.deleteAll(ids);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    // Pages and streams are read straight through; they are used for bulk reads
+    // that would only churn the cache
+
+    @Override
+    public List<T> findPage(Integer afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public Stream<T> streamAll() {
+        return delegate.streamAll();
+    }
+
+    public synchronized void invalidate(int id) {
+        generation++;
+        entries.remove(id);
+        allEntities = null;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        allEntities = null;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingCrudService[size=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.2f]",
+                size(), getHitCount(), getMissCount(), getEvictionCount(), getHitRate());
+    }
+
+    private List<T> copyAll(List<T> source) {
+        List<T> copies = new ArrayList<>(source.size());
+        for (T entity : source) {
+            copies.add(copier.apply(entity));
+        }
+        return copies;
+    }
+
+    private final class Entry<V> {
+        private final V value;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
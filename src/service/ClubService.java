@@ -1,11 +1,14 @@
 package service;
 
 import db.DBConnection;
+import db.QueryStream;
 import exception.DatabaseException;
 import exception.ValidationException;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 import model.Club;
 
 public class ClubService implements CrudService<Club, Integer> {
@@ -51,6 +54,65 @@ public class ClubService implements CrudService<Club, Integer> {
         return clubs;
     }
     
+    @Override
+    public List<Club> findPage(Integer afterId, int limit) {
+        List<Club> clubs = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT * FROM Clubs WHERE club_id > ? ORDER BY club_id LIMIT ?")) {
+            
+            stmt.setInt(1, afterId != null ? afterId : Integer.MIN_VALUE);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    clubs.add(mapClub(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error fetching club page after ID: " + afterId, e);
+        }
+        return clubs;
+    }
+    
+    @Override
+    public Stream<Club> streamAll() {
+        return QueryStream.of("SELECT * FROM Clubs ORDER BY club_id", this::mapClub, "Error streaming clubs");
+    }
+    
+    @Override
+    public BatchResult saveAll(Collection<Club> clubs) {
+        return BatchWriter.execute(
+                "INSERT INTO Clubs (club_id, club_name, club_description) VALUES (?, ?, ?)",
+                clubs, (stmt, club) -> {
+                    if (!club.isValid()) {
+                        throw new ValidationException("Invalid club data");
+                    }
+                    stmt.setInt(1, club.getClubId());
+                    stmt.setString(2, club.getClubName());
+                    stmt.setString(3, club.getClubDescription());
+                }, Club::getClubId);
+    }
+    
+    @Override
+    public BatchResult updateAll(Collection<Club> clubs) {
+        return BatchWriter.execute(
+                "UPDATE Clubs SET club_name = ?, club_description = ? WHERE club_id = ?",
+                clubs, (stmt, club) -> {
+                    if (!club.isValid()) {
+                        throw new ValidationException("Invalid club data");
+                    }
+                    stmt.setString(1, club.getClubName());
+                    stmt.setString(2, club.getClubDescription());
+                    stmt.setInt(3, club.getClubId());
+                }, Club::getClubId);
+    }
+    
+    @Override
+    public BatchResult deleteAll(Collection<Integer> ids) {
+        return BatchWriter.execute("DELETE FROM Clubs WHERE club_id = ?",
+                ids, (stmt, id) -> stmt.setInt(1, id), id -> id);
+    }
+    
     @Override
     public Club save(Club club) {
         if (!club.isValid()) {
@@ -111,4 +173,12 @@ public class ClubService implements CrudService<Club, Integer> {
             throw new DatabaseException("Error deleting club", e);
         }
     }
+    
+    private Club mapClub(ResultSet rs) throws SQLException {
+        Club club = new Club();
+        club.setClubId(rs.getInt("club_id"));
+        club.setClubName(rs.getString("club_name"));
+        club.setClubDescription(rs.getString("club_description"));
+        return club;
+    }
 }
@@ -0,0 +1,213 @@
+package service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Files named by the SHA-256 of their content under one directory, as
+ * root/ab/cd/abcd... Two identical files are stored once.
+ *
+ * Uploads are copied through one direct buffer that is hashed as it is written,
+ * so content read from a FileChannel never passes through the Java heap. A
+ * channel wrapping an InputStream (Channels.newChannel) still copies each chunk
+ * through its own small heap array first. Reads go straight from the page cache,
+ * with FileChannel.transferTo or a memory-mapped region.
+ */
+final class ContentStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Region mapped at a time when hashing a stored file
+    private static final long MAP_CHUNK = 64L * 1024 * 1024;
+
+    /**
+     * A fully written, hashed upload waiting in the temporary directory
+     */
+    static final class Upload {
+        private final Path tempFile;
+        private final String hash;
+        private final long size;
+
+        private Upload(Path tempFile, String hash, long size) {
+            this.tempFile = tempFile;
+            this.hash = hash;
+            this.size = size;
+        }
+
+        String getHash() {
+            return hash;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        /** Location relative to the store's root once committed */
+        String getRelativePath() {
+            return relativePath(hash);
+        }
+    }
+
+    private final Path root;
+    private final Path tempDir;
+
+    ContentStore(Path root) {
+        this.root = root;
+        // Inside root so that committing is a rename on the same file system
+        this.tempDir = root.resolve("tmp");
+    }
+
+    /**
+     * Copies the content into a temporary file, hashing it on the way
+     */
+    Upload receive(ReadableByteChannel in) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long size = 0;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(true);
+            }
+            return new Upload(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves the upload to its content address. Returns false, and discards the
+     * upload, when identical content is already stored.
+     */
+    boolean commit(Upload upload) throws IOException {
+        Path target = root.resolve(upload.getRelativePath());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(upload.tempFile);
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(upload.tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(upload.tempFile);
+            return false;
+        }
+    }
+
+    /**
+     * Throws away an upload that will not be committed
+     */
+    void discard(Upload upload) throws IOException {
+        Files.deleteIfExists(upload.tempFile);
+    }
+
+    /**
+     * The file for a stored path; absolute paths (from rows written before the
+     * store existed) are used as they are
+     */
+    Path resolve(String filePath) {
+        Path path = Path.of(filePath);
+        return path.isAbsolute() ? path : root.resolve(filePath);
+    }
+
+    /**
+     * Sends the whole file to target, letting the OS copy it without user-space
+     * buffers where it can (file to socket or file to file). target must be blocking.
+     */
+    long transferTo(String filePath, WritableByteChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(filePath), StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, target);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Read-only mapping of the whole file; files over 2 GB cannot be mapped at once
+     */
+    MappedByteBuffer map(String filePath) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(filePath), StandardOpenOption.READ)) {
+            if (in.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + filePath);
+            }
+            return in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+        }
+    }
+
+    /**
+     * SHA-256 of a stored file, read through mapped regions
+     */
+    String hash(String filePath) throws IOException {
+        MessageDigest digest = sha256();
+        try (FileChannel in = FileChannel.open(resolve(filePath), StandardOpenOption.READ)) {
+            long size = in.size();
+            for (long position = 0; position < size; position += MAP_CHUNK) {
+                digest.update(in.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK, size - position)));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hashes of every committed file, taken from the file names; uploads still in
+     * the temporary directory are not included
+     */
+    List<String> storedHashes() throws IOException {
+        List<String> hashes = new ArrayList<>();
+        if (!Files.isDirectory(root)) {
+            return hashes;
+        }
+        try (Stream<Path> files = Files.walk(root, 3)) {
+            files.filter(path -> !path.startsWith(tempDir) && Files.isRegularFile(path))
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.length() == 64 && HexFormat.isHexDigit(name.charAt(0)))
+                    .forEach(hashes::add);
+        }
+        return hashes;
+    }
+
+    boolean delete(String filePath) throws IOException {
+        return Files.deleteIfExists(resolve(filePath));
+    }
+
+    static String relativePath(String hash) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 // wrapper class wraps prim data type into obj so it can be used where objs are req
 public interface CrudService<T, ID> {
     T findById(ID id);
@@ -8,4 +10,27 @@ public interface CrudService<T, ID> {
     T save(T entity);
     boolean update(T entity);
     boolean delete(ID id);
+    
+    /**
+     * Keyset page: up to limit rows with an ID greater than afterId, in ID order.
+     * Pass null for the first page and the last ID returned for the next one.
+     */
+    List<T> findPage(ID afterId, int limit);
+    
+    /**
+     * Every row, read in fetch-size batches instead of materialised.
+     * The stream holds a database connection and must be closed.
+     */
+    Stream<T> streamAll();
+    
+    /**
+     * Bulk variants of save/update/delete. Rows are written in JDBC batches, one
+     * transaction per batch; rows that fail are listed in the result and do not
+     * stop the rest of the load.
+     */
+    BatchResult saveAll(Collection<T> entities);
+    
+    BatchResult updateAll(Collection<T> entities);
+    
+    BatchResult deleteAll(Collection<ID> ids);
 }
@@ -0,0 +1,390 @@
+package service;
+
+import db.DBConnection;
+import exception.ImportException;
+import exception.ValidationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import model.Club;
+import model.Event;
+import model.Member;
+import model.Venue;
+import utils.CsvReader;
+import utils.ValidationUtils;
+
+/**
+ * Bulk CSV import for clubs, venues, members and events.
+ *
+ * The import runs as a pipeline. A reader thread parses the file into chunks of
+ * db.batchSize rows. Each chunk is validated on a worker pool with the models'
+ * isValid() rules. The calling thread writes valid rows with the batched saveAll.
+ * At most a few chunks are in flight at once, so memory use does not depend on
+ * the file size. Rejected lines go to a "&lt;file&gt;.rejects.csv" file next to the input.
+ *
+ * The first line of the file is a header; columns are matched by name, in any order:
+ * <ul>
+ *   <li>clubs: club_id, club_name, club_description</li>
+ *   <li>venues: venue_id, venue_name, location</li>
+ *   <li>members: member_id, member_name, email, phone, join_date, club (name) or club_id</li>
+ *   <li>events: event_id, event_name, description, event_date, club (name) or club_id,
+ *       venue (name) or venue_id</li>
+ * </ul>
+ * Dates use yyyy-MM-dd. A file missing a required column fails as a whole,
+ * before any row is read.
+ */
+public class CsvImportService {
+
+    // Validated chunks waiting for the writer, per worker thread
+    private static final int CHUNKS_IN_FLIGHT_PER_WORKER = 2;
+
+    private final CrudService<Club, Integer> clubService;
+    private final CrudService<Venue, Integer> venueService;
+    private final CrudService<Member, Integer> memberService;
+    private final CrudService<Event, Integer> eventService;
+
+    public CsvImportService(CrudService<Club, Integer> clubService, CrudService<Venue, Integer> venueService,
+                            CrudService<Member, Integer> memberService, CrudService<Event, Integer> eventService) {
+        this.clubService = clubService;
+        this.venueService = venueService;
+        this.memberService = memberService;
+        this.eventService = eventService;
+    }
+
+    public ImportReport importClubs(Path file) {
+        return runImport(file, "Club", clubService, new String[]{"club_id", "club_name"}, row -> {
+            Club club = new Club(row.requireInt("club_id"), row.get("club_name"), row.get("club_description"));
+            if (!club.isValid()) {
+                throw new ValidationException("Invalid club data");
+            }
+            return club;
+        });
+    }
+
+    public ImportReport importVenues(Path file) {
+        return runImport(file, "Venue", venueService, new String[]{"venue_id", "venue_name"}, row -> {
+            Venue venue = new Venue(row.requireInt("venue_id"), row.get("venue_name"), row.get("location"));
+            if (!venue.isValid()) {
+                throw new ValidationException("Invalid venue data");
+            }
+            return venue;
+        });
+    }
+
+    public ImportReport importMembers(Path file) {
+        // Club names are resolved once up front instead of per row
+        Map<String, Integer> clubIds = clubIdsByName();
+        String[] required = {"member_id", "member_name", "email", "join_date", "club|club_id"};
+        return runImport(file, "Member", memberService, required, row -> {
+            Member member = new Member();
+            member.setMemberId(row.requireInt("member_id"));
+            member.setMemberName(row.get("member_name"));
+            member.setEmail(row.get("email"));
+            member.setPhone(row.get("phone"));
+            member.setJoinDate(row.requireDate("join_date"));
+            member.setClubId(row.resolveId("club", "club_id", clubIds));
+            if (!ValidationUtils.isValidEmail(member.getEmail())) {
+                throw new ValidationException("Invalid email: " + member.getEmail());
+            }
+            if (!member.isValid()) {
+                throw new ValidationException("Invalid member data");
+            }
+            return member;
+        });
+    }
+
+    public ImportReport importEvents(Path file) {
+        Map<String, Integer> clubIds = clubIdsByName();
+        Map<String, Integer> venueIds = new HashMap<>();
+        for (Venue venue : venueService.findAll()) {
+            venueIds.put(normalize(venue.getVenueName()), venue.getVenueId());
+        }
+        String[] required = {"event_id", "event_name", "event_date", "club|club_id", "venue|venue_id"};
+        return runImport(file, "Event", eventService, required, row -> {
+            Event event = new Event();
+            event.setEventId(row.requireInt("event_id"));
+            event.setEventName(row.get("event_name"));
+            event.setDescription(row.get("description"));
+            event.setEventDate(row.requireDate("event_date"));
+            event.setClubId(row.resolveId("club", "club_id", clubIds));
+            event.setVenueId(row.resolveId("venue", "venue_id", venueIds));
+            if (!event.isValid()) {
+                throw new ValidationException("Invalid event data");
+            }
+            return event;
+        });
+    }
+
+    private Map<String, Integer> clubIdsByName() {
+        Map<String, Integer> clubIds = new HashMap<>();
+        for (Club club : clubService.findAll()) {
+            clubIds.put(normalize(club.getClubName()), club.getClubId());
+        }
+        return clubIds;
+    }
+
+    /**
+     * required lists the header columns every row needs; "a|b" accepts either column
+     */
+    private <T> ImportReport runImport(Path file, String entity, CrudService<T, Integer> target,
+                                       String[] required, RowConverter<T> converter) {
+        long start = System.nanoTime();
+        Path rejectsFile = file.resolveSibling(file.getFileName() + ".rejects.csv");
+        ImportReport report = new ImportReport(entity, rejectsFile);
+
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService validators = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "CsvValidator-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        // Futures are queued in file order; a full queue makes the reader wait for the writer
+        BlockingQueue<Future<Chunk<T>>> pending = new ArrayBlockingQueue<>(workers * CHUNKS_IN_FLIGHT_PER_WORKER);
+        Thread reader = new Thread(() -> readChunks(file, required, converter, validators, pending), "CsvReader");
+        reader.setDaemon(true);
+        reader.start();
+
+        try (BufferedWriter rejects = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8)) {
+            rejects.write("line,reason");
+            rejects.newLine();
+            while (true) {
+                Chunk<T> chunk = pending.take().get();
+                if (chunk == null) {
+                    break;
+                }
+                report.addRead(chunk.rowCount);
+                for (Reject reject : chunk.rejects) {
+                    reject(report, rejects, reject.line, reject.reason);
+                }
+                if (!chunk.valid.isEmpty()) {
+                    BatchResult result = target.saveAll(chunk.valid);
+                    report.addImported(result.getSucceeded());
+                    for (BatchResult.Failure failure : result.getFailures()) {
+                        reject(report, rejects, chunk.lines.get(failure.getIndex()), failure.getMessage());
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof ImportException ? (ImportException) cause
+                    : new ImportException("Error reading " + file.getFileName(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportException("Import of " + file.getFileName() + " was interrupted", e);
+        } catch (IOException e) {
+            throw new ImportException("Error writing " + rejectsFile.getFileName(), e);
+        } finally {
+            reader.interrupt();
+            validators.shutdownNow();
+        }
+
+        if (report.getRejected() == 0) {
+            try {
+                Files.deleteIfExists(rejectsFile);
+            } catch (IOException ignored) {
+                // An empty rejects file left behind is harmless
+            }
+        }
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * Runs on the reader thread: parses the file and hands chunks to the validators.
+     * A null chunk marks the end; a failed future carries a read error.
+     */
+    private <T> void readChunks(Path file, String[] required, RowConverter<T> converter,
+                                ExecutorService validators, BlockingQueue<Future<Chunk<T>>> pending) {
+        int chunkSize = DBConnection.getBatchSize();
+        try {
+            try (CsvReader csv = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+                List<String> header = csv.readRecord();
+                if (header == null) {
+                    throw new ImportException(file.getFileName() + " is empty");
+                }
+                Map<String, Integer> columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(normalize(header.get(i)), i);
+                }
+                requireColumns(file, columns, required);
+
+                List<List<String>> records = new ArrayList<>(chunkSize);
+                List<Integer> lines = new ArrayList<>(chunkSize);
+                List<String> record;
+                while ((record = csv.readRecord()) != null) {
+                    if (record.size() == 1 && record.get(0).trim().isEmpty()) {
+                        continue;
+                    }
+                    records.add(record);
+                    lines.add(csv.getRecordLine());
+                    if (records.size() == chunkSize) {
+                        submit(records, lines, columns, converter, validators, pending);
+                        records = new ArrayList<>(chunkSize);
+                        lines = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (!records.isEmpty()) {
+                    submit(records, lines, columns, converter, validators, pending);
+                }
+            }
+            pending.put(CompletableFuture.completedFuture(null));
+        } catch (IOException | RuntimeException e) {
+            try {
+                pending.put(CompletableFuture.failedFuture(e));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (InterruptedException e) {
+            // The writer gave up; nothing is waiting for more chunks
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void requireColumns(Path file, Map<String, Integer> columns, String[] required) {
+        for (String column : required) {
+            boolean present = false;
+            for (String alternative : column.split("\\|")) {
+                present |= columns.containsKey(alternative);
+            }
+            if (!present) {
+                throw new ImportException(file.getFileName() + " has no " + column.replace("|", " or ") + " column");
+            }
+        }
+    }
+
+    private <T> void submit(List<List<String>> records, List<Integer> lines, Map<String, Integer> columns,
+                            RowConverter<T> converter, ExecutorService validators,
+                            BlockingQueue<Future<Chunk<T>>> pending) throws InterruptedException {
+        pending.put(validators.submit(() -> validate(records, lines, columns, converter)));
+    }
+
+    private <T> Chunk<T> validate(List<List<String>> records, List<Integer> lines, Map<String, Integer> columns,
+                                  RowConverter<T> converter) {
+        Chunk<T> chunk = new Chunk<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                chunk.valid.add(converter.convert(new CsvRow(columns, records.get(i))));
+                chunk.lines.add(lines.get(i));
+            } catch (ValidationException e) {
+                chunk.rejects.add(new Reject(lines.get(i), e.getMessage()));
+            }
+        }
+        return chunk;
+    }
+
+    private static void reject(ImportReport report, BufferedWriter rejects, int line, String reason)
+            throws IOException {
+        report.addRejected(line, reason);
+        rejects.write(line + ",\"" + String.valueOf(reason).replace("\"", "\"\"") + "\"");
+        rejects.newLine();
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface RowConverter<T> {
+        /** Builds an entity from a row or throws ValidationException with the reason */
+        T convert(CsvRow row);
+    }
+
+    /**
+     * One parsed line with lookups by header name
+     */
+    private static final class CsvRow {
+        private final Map<String, Integer> columns;
+        private final List<String> fields;
+
+        private CsvRow(Map<String, Integer> columns, List<String> fields) {
+            this.columns = columns;
+            this.fields = fields;
+        }
+
+        private String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private int requireInt(String column) {
+            String value = get(column);
+            if (value == null) {
+                throw new ValidationException("Missing " + column);
+            }
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid " + column + ": " + value);
+            }
+        }
+
+        private Date requireDate(String column) {
+            String value = get(column);
+            Date date = ValidationUtils.parseDate(value);
+            if (date == null) {
+                throw new ValidationException("Invalid " + column + " (expected yyyy-MM-dd): " + value);
+            }
+            return date;
+        }
+
+        /**
+         * Takes the ID column if present, otherwise looks the name column up in ids
+         */
+        private int resolveId(String nameColumn, String idColumn, Map<String, Integer> ids) {
+            if (get(idColumn) != null) {
+                return requireInt(idColumn);
+            }
+            String name = get(nameColumn);
+            if (name == null) {
+                throw new ValidationException("Missing " + nameColumn);
+            }
+            Integer id = ids.get(normalize(name));
+            if (id == null) {
+                throw new ValidationException("Unknown " + nameColumn + ": " + name);
+            }
+            return id;
+        }
+    }
+
+    private static final class Chunk<T> {
+        private final int rowCount;
+        private final List<T> valid = new ArrayList<>();
+        private final List<Integer> lines = new ArrayList<>();
+        private final List<Reject> rejects = new ArrayList<>();
+
+        private Chunk(int rowCount) {
+            this.rowCount = rowCount;
+        }
+    }
+
+    private static final class Reject {
+        private final int line;
+        private final String reason;
+
+        private Reject(int line, String reason) {
+            this.line = line;
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import exception.StorageException;
+import exception.ValidationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import model.Document;
+
+/**
+ * Club and event documents: metadata in the Documents table, content in a
+ * content-addressed directory (columns in database/migrations/007_document_storage.sql).
+ *
+ * Uploads are streamed to disk and hashed in the same pass, then stored under their
+ * SHA-256, so uploading the same file twice keeps one copy. Downloads use
+ * FileChannel.transferTo or a memory-mapped buffer. Large files are never held
+ * whole in the Java heap on the way in or out. A stored file is deleted with the
+ * last row that this service deletes. Rows the database removes itself (ON DELETE
+ * CASCADE when their event is deleted) leave their files behind until
+ * removeUnreferencedFiles() is run.
+ */
+public class DocumentService {
+
+    private static final String DOCUMENT_SELECT =
+            "SELECT document_id, club_id, event_id, title, file_path, upload_date, " +
+            "content_hash, size_bytes, original_name FROM Documents";
+    // Uploads and deletes of the same content take the same lock
+    private static final int LOCK_STRIPES = 64;
+
+    private final ContentStore store;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public DocumentService() {
+        this(Paths.get("data", "documents"));
+    }
+
+    public DocumentService(Path storageRoot) {
+        this.store = new ContentStore(storageRoot);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Stores the content read from in and inserts the document's row; returns the
+     * document with its ID, path, hash and size filled in. in is not closed. The
+     * stream is read through a small heap array; store(Document, Path) copies a
+     * local file without one.
+     */
+    public Document store(Document document, InputStream in) {
+        return store(document, Channels.newChannel(in));
+    }
+
+    /**
+     * Stores a copy of a local file, e.g. one picked in a file chooser
+     */
+    public Document store(Document document, Path source) {
+        if (document.getOriginalName() == null && source.getFileName() != null) {
+            document.setOriginalName(source.getFileName().toString());
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            return store(document, in);
+        } catch (IOException e) {
+            throw new StorageException("Error reading " + source, e);
+        }
+    }
+
+    private Document store(Document document, ReadableByteChannel in) {
+        if (!document.isValid()) {
+            throw new ValidationException("Invalid document data");
+        }
+        ContentStore.Upload upload;
+        try {
+            upload = store.receive(in);
+        } catch (IOException e) {
+            throw new StorageException("Error storing document " + document.getTitle(), e);
+        }
+        document.setContentHash(upload.getHash());
+        document.setSizeBytes(upload.getSize());
+        document.setFilePath(upload.getRelativePath());
+        document.setUploadDate(new Date());
+
+        synchronized (lockFor(upload.getHash())) {
+            boolean created;
+            try {
+                created = store.commit(upload);
+            } catch (IOException e) {
+                discard(upload);
+                throw new StorageException("Error storing document " + document.getTitle(), e);
+            }
+            try {
+                insert(document);
+            } catch (DatabaseException e) {
+                // Only a file this call created can be unreferenced; a shared one is left alone
+                if (created) {
+                    deleteQuietly(document.getFilePath());
+                }
+                throw e;
+            }
+        }
+        return document;
+    }
+
+    public Document findById(int documentId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(DOCUMENT_SELECT + " WHERE document_id = ?")) {
+
+            stmt.setInt(1, documentId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapDocument(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding document by ID: " + documentId, e);
+        }
+    }
+
+    /**
+     * A page of the club's documents (every club's when clubId is 0) in upload
+     * order, continuing after the given document ID (from the first when null)
+     */
+    public List<Document> findPage(int clubId, Integer afterId, int limit) {
+        StringBuilder sql = new StringBuilder(DOCUMENT_SELECT);
+        List<Object> params = new ArrayList<>();
+        String clause = " WHERE ";
+        if (clubId > 0) {
+            sql.append(clause).append("club_id = ?");
+            params.add(clubId);
+            clause = " AND ";
+        }
+        if (afterId != null) {
+            sql.append(clause).append("document_id > ?");
+            params.add(afterId);
+        }
+        sql.append(" ORDER BY document_id LIMIT ?");
+        params.add(limit);
+
+        List<Document> documents = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    documents.add(mapDocument(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading documents", e);
+        }
+        return documents;
+    }
+
+    /**
+     * Writes the document's content to target (a socket or file channel copies
+     * without passing through the heap) and returns the number of bytes sent
+     */
+    public long transferTo(Document document, WritableByteChannel target) {
+        try {
+            return store.transferTo(requirePath(document), target);
+        } catch (IOException e) {
+            throw new StorageException("Error reading document " + document.getDocumentId(), e);
+        }
+    }
+
+    /**
+     * Saves a copy of the document's content to a local file, replacing it
+     */
+    public long copyTo(Document document, Path target) {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return store.transferTo(requirePath(document), out);
+        } catch (IOException e) {
+            throw new StorageException("Error copying document " + document.getDocumentId() + " to " + target, e);
+        }
+    }
+
+    /**
+     * Read-only view of the content, paged in by the OS as it is read
+     */
+    public MappedByteBuffer map(Document document) {
+        try {
+            return store.map(requirePath(document));
+        } catch (IOException e) {
+            throw new StorageException("Error mapping document " + document.getDocumentId(), e);
+        }
+    }
+
+    /**
+     * Whether the stored file still matches the hash recorded for it; documents
+     * stored before hashing cannot be checked and count as intact
+     */
+    public boolean verify(Document document) {
+        if (document.getContentHash() == null) {
+            return true;
+        }
+        try {
+            return document.getContentHash().equals(store.hash(requirePath(document)));
+        } catch (IOException e) {
+            throw new StorageException("Error reading document " + document.getDocumentId(), e);
+        }
+    }
+
+    /**
+     * Deletes the document's row, and its file when no other document shares it
+     */
+    public boolean delete(int documentId) {
+        Document document = findById(documentId);
+        if (document == null) {
+            return false;
+        }
+        String hash = document.getContentHash();
+        // Files of rows stored before hashing were not written by this service
+        if (hash == null) {
+            return deleteRow(documentId);
+        }
+        synchronized (lockFor(hash)) {
+            if (!deleteRow(documentId)) {
+                return false;
+            }
+            if (countReferences(hash) == 0) {
+                deleteQuietly(document.getFilePath());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes stored files that no document refers to, e.g. those of documents
+     * removed with their event; returns the number of files deleted
+     */
+    public int removeUnreferencedFiles() {
+        List<String> hashes;
+        try {
+            hashes = store.storedHashes();
+        } catch (IOException e) {
+            throw new StorageException("Error listing stored documents", e);
+        }
+        Set<String> referenced = findReferencedHashes();
+        int removed = 0;
+        for (String hash : hashes) {
+            if (referenced.contains(hash)) {
+                continue;
+            }
+            synchronized (lockFor(hash)) {
+                // An upload of the same content may have been stored since the scan
+                if (countReferences(hash) == 0 && deleteQuietly(ContentStore.relativePath(hash))) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    private void insert(Document document) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "INSERT INTO Documents (club_id, event_id, title, file_path, upload_date, " +
+                     "content_hash, size_bytes, original_name) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                     Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setInt(1, document.getClubId());
+            if (document.getEventId() != null) {
+                stmt.setInt(2, document.getEventId());
+            } else {
+                stmt.setNull(2, Types.INTEGER);
+            }
+            stmt.setString(3, document.getTitle());
+            stmt.setString(4, document.getFilePath());
+            stmt.setDate(5, new java.sql.Date(document.getUploadDate().getTime()));
+            stmt.setString(6, document.getContentHash());
+            stmt.setLong(7, document.getSizeBytes());
+            stmt.setString(8, document.getOriginalName());
+            stmt.executeUpdate();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    document.setDocumentId(keys.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error saving document " + document.getTitle(), e);
+        }
+    }
+
+    private boolean deleteRow(int documentId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("DELETE FROM Documents WHERE document_id = ?")) {
+
+            stmt.setInt(1, documentId);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new DatabaseException("Error deleting document " + documentId, e);
+        }
+    }
+
+    private int countReferences(String hash) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM Documents WHERE content_hash = ?")) {
+
+            stmt.setString(1, hash);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting references to document content", e);
+        }
+    }
+
+    private Set<String> findReferencedHashes() {
+        Set<String> hashes = new HashSet<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT DISTINCT content_hash FROM Documents WHERE content_hash IS NOT NULL");
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                hashes.add(rs.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading document content hashes", e);
+        }
+        return hashes;
+    }
+
+    private String requirePath(Document document) {
+        if (document.getFilePath() == null) {
+            throw new StorageException("Document " + document.getDocumentId() + " has no file");
+        }
+        return document.getFilePath();
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private void discard(ContentStore.Upload upload) {
+        try {
+            store.discard(upload);
+        } catch (IOException ignored) {
+            // A leftover temporary file is harmless
+        }
+    }
+
+    private boolean deleteQuietly(String filePath) {
+        try {
+            return store.delete(filePath);
+        } catch (IOException ignored) {
+            // An unreferenced file only costs disk space
+            return false;
+        }
+    }
+
+    private Document mapDocument(ResultSet rs) throws SQLException {
+        Document document = new Document();
+        document.setDocumentId(rs.getInt("document_id"));
+        document.setClubId(rs.getInt("club_id"));
+        int eventId = rs.getInt("event_id");
+        document.setEventId(rs.wasNull() ? null : eventId);
+        document.setTitle(rs.getString("title"));
+        document.setFilePath(rs.getString("file_path"));
+        java.sql.Date date = rs.getDate("upload_date");
+        document.setUploadDate(date != null ? new Date(date.getTime()) : null);
+        document.setContentHash(rs.getString("content_hash"));
+        document.setSizeBytes(rs.getLong("size_bytes"));
+        document.setOriginalName(rs.getString("original_name"));
+        return document;
+    }
+}
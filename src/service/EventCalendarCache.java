@@ -0,0 +1,86 @@
+package service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import model.EventView;
+
+/**
+ * Month-partitioned cache of events for the calendar. Each month is loaded with one
+ * EventService.findBetween range query and stored bucketed by day, so drawing a
+ * cell is a map lookup instead of a scan of every event. The most recently used
+ * MAX_MONTHS months are kept.
+ */
+public class EventCalendarCache {
+
+    private static final int MAX_MONTHS = 12;
+
+    private final EventService eventService;
+    // Access order, so the eldest entry is the least recently viewed month
+    private final Map<YearMonth, Map<LocalDate, List<EventView>>> months =
+            new LinkedHashMap<YearMonth, Map<LocalDate, List<EventView>>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<YearMonth, Map<LocalDate, List<EventView>>> eldest) {
+                    return size() > MAX_MONTHS;
+                }
+            };
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private long generation;
+
+    public EventCalendarCache(EventService eventService) {
+        this.eventService = eventService;
+    }
+
+    /**
+     * Events of the month by day, loading the month if it is not cached.
+     * Days without events are absent from the map.
+     */
+    public Map<LocalDate, List<EventView>> getMonth(YearMonth month) {
+        long loadGeneration;
+        synchronized (this) {
+            Map<LocalDate, List<EventView>> cached = months.get(month);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+        List<EventView> events = eventService.findBetween(
+                java.sql.Date.valueOf(month.atDay(1)), java.sql.Date.valueOf(month.atEndOfMonth()));
+        Map<LocalDate, List<EventView>> byDay = new HashMap<>();
+        for (EventView event : events) {
+            LocalDate day = new java.sql.Date(event.getEventDate().getTime()).toLocalDate();
+            byDay.computeIfAbsent(day, d -> new ArrayList<>()).add(event);
+        }
+        byDay = Collections.unmodifiableMap(byDay);
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                months.put(month, byDay);
+            }
+        }
+        return byDay;
+    }
+
+    /**
+     * Events on one day, loading its month if needed
+     */
+    public List<EventView> getDay(LocalDate day) {
+        return getMonth(YearMonth.from(day)).getOrDefault(day, Collections.emptyList());
+    }
+
+    public synchronized boolean isCached(YearMonth month) {
+        return months.containsKey(month);
+    }
+
+    /**
+     * Drops every cached month; used after an event is added, moved or deleted
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        months.clear();
+    }
+}
@@ -0,0 +1,169 @@
+package service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import model.Event;
+
+/**
+ * Criteria for EventService.findViews. Every field is optional; unset fields add
+ * no predicate. The setters return this so a filter can be built in one expression:
+ * <pre>new EventFilter().past().club(3).sort(EventFilter.Sort.DATE_DESC).limit(50)</pre>
+ */
+public class EventFilter {
+
+    public enum Sort {
+        ID("e.event_id ASC",
+                Comparator.comparingInt(Event::getEventId)),
+        // MySQL sorts NULL dates first ascending and last descending
+        DATE_ASC("e.event_date ASC, e.event_id ASC",
+                Comparator.comparing(Event::getEventDate, Comparator.nullsFirst(Comparator.<Date>naturalOrder()))
+                        .thenComparingInt(Event::getEventId)),
+        DATE_DESC("e.event_date DESC, e.event_id DESC",
+                Comparator.comparing(Event::getEventDate, Comparator.nullsLast(Comparator.<Date>reverseOrder()))
+                        .thenComparing(Comparator.comparingInt(Event::getEventId).reversed())),
+        NAME("e.event_name ASC, e.event_id ASC",
+                Comparator.comparing(Event::getEventName, String.CASE_INSENSITIVE_ORDER)
+                        .thenComparingInt(Event::getEventId));
+
+        private final String orderBy;
+        private final Comparator<Event> order;
+
+        Sort(String orderBy, Comparator<Event> order) {
+            this.orderBy = orderBy;
+            this.order = order;
+        }
+
+        String orderBy() {
+            return orderBy;
+        }
+
+        /** The same order in memory, e.g. to place a saved row in a paged grid */
+        public Comparator<Event> order() {
+            return order;
+        }
+    }
+
+    private Date from;
+    private Date to;
+    private Boolean upcoming;
+    private int clubId;
+    private int venueId;
+    private Sort sort = Sort.ID;
+    private int limit;
+    private Event after;
+
+    /** Events on or after this date (inclusive) */
+    public EventFilter from(Date from) {
+        this.from = from;
+        return this;
+    }
+
+    /** Events on or before this date (inclusive) */
+    public EventFilter to(Date to) {
+        this.to = to;
+        return this;
+    }
+
+    /** Events from today onwards, compared against the database's CURDATE() */
+    public EventFilter upcoming() {
+        this.upcoming = Boolean.TRUE;
+        return this;
+    }
+
+    /** Events before today */
+    public EventFilter past() {
+        this.upcoming = Boolean.FALSE;
+        return this;
+    }
+
+    /** Restricts to one club; 0 means all clubs */
+    public EventFilter club(int clubId) {
+        this.clubId = clubId;
+        return this;
+    }
+
+    /** Restricts to one venue; 0 means all venues */
+    public EventFilter venue(int venueId) {
+        this.venueId = venueId;
+        return this;
+    }
+
+    public EventFilter sort(Sort sort) {
+        this.sort = sort != null ? sort : Sort.ID;
+        return this;
+    }
+
+    /** Maximum rows to return; 0 means no limit */
+    public EventFilter limit(int limit) {
+        this.limit = Math.max(0, limit);
+        return this;
+    }
+
+    /**
+     * Continues after this event in the filter's sort order (a keyset page), so
+     * rows inserted or deleted on earlier pages don't shift the next one
+     */
+    public EventFilter after(Event after) {
+        this.after = after;
+        return this;
+    }
+
+    /**
+     * Whether the event passes the filter's criteria, ignoring limit and position.
+     * Upcoming and past compare against today's local date.
+     */
+    public boolean matches(Event event) {
+        Date date = event.getEventDate();
+        if (date == null && (upcoming != null || from != null || to != null)) {
+            return false;
+        }
+        if (upcoming != null) {
+            Date today = Date.from(LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant());
+            if (date.before(today) == upcoming) {
+                return false;
+            }
+        }
+        if (from != null && date.before(from)) {
+            return false;
+        }
+        if (to != null && date.after(to)) {
+            return false;
+        }
+        return (clubId == 0 || event.getClubId() == clubId)
+                && (venueId == 0 || event.getVenueId() == venueId);
+    }
+
+    public Date getFrom() {
+        return from;
+    }
+
+    public Date getTo() {
+        return to;
+    }
+
+    public Boolean getUpcoming() {
+        return upcoming;
+    }
+
+    public int getClubId() {
+        return clubId;
+    }
+
+    public int getVenueId() {
+        return venueId;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Event getAfter() {
+        return after;
+    }
+}
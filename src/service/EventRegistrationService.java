@@ -0,0 +1,301 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registers members for events with a per-event capacity
+ * (database/migrations/003_event_registration_capacity.sql).
+ *
+ * Each registration is one short transaction. A conditional UPDATE of the event's
+ * registered_count takes a place only while one is left. The INSERT is then
+ * guarded by the unique (member_id, event_id) key. Only the one Events row is
+ * locked, so registrations for different events run in parallel. Registrations
+ * for the same event queue on that row only until commit, and capacity can never
+ * be exceeded.
+ *
+ * Deadlocks, lock wait timeouts and lost connections are retried. A retry cannot
+ * register a member twice, because the unique key rejects the second insert. When
+ * the connection drops, the commit may have landed before it did. A retry that
+ * then finds the member registered reports REGISTERED, since the pre-check at the
+ * start of the call found no registration.
+ */
+public class EventRegistrationService {
+
+    public enum Outcome {
+        REGISTERED, ALREADY_REGISTERED, EVENT_FULL, UNKNOWN_EVENT, UNKNOWN_MEMBER
+    }
+
+    // MySQL error codes: duplicate key, foreign key failure, lock wait timeout
+    private static final int ER_DUP_ENTRY = 1062;
+    private static final int ER_NO_REFERENCED_ROW = 1452;
+    private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder registered = new LongAdder();
+    private final LongAdder alreadyRegistered = new LongAdder();
+    private final LongAdder rejectedFull = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAdder counterUpdateNanos = new LongAdder();
+    private final AtomicLong maxCounterUpdateNanos = new AtomicLong();
+    private final AtomicLong firstAttemptNanos = new AtomicLong();
+
+    /**
+     * Registers the member for the event if they aren't already registered and a
+     * place is left. Safe to call concurrently for the same or different events.
+     */
+    public Outcome register(int memberId, int eventId) {
+        long start = System.nanoTime();
+        firstAttemptNanos.compareAndSet(0, start);
+        attempts.increment();
+        try {
+            // Repeat clicks are answered from a plain indexed read without touching the event row
+            if (isRegistered(memberId, eventId)) {
+                alreadyRegistered.increment();
+                return Outcome.ALREADY_REGISTERED;
+            }
+            boolean connectionLost = false;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    Outcome outcome = tryRegister(memberId, eventId);
+                    if (outcome == Outcome.ALREADY_REGISTERED && connectionLost) {
+                        // The attempt whose connection dropped had committed
+                        outcome = Outcome.REGISTERED;
+                    }
+                    if (outcome == Outcome.REGISTERED) {
+                        registered.increment();
+                    } else if (outcome == Outcome.ALREADY_REGISTERED) {
+                        alreadyRegistered.increment();
+                    } else if (outcome == Outcome.EVENT_FULL) {
+                        rejectedFull.increment();
+                    }
+                    return outcome;
+                } catch (SQLException e) {
+                    if (!isTransient(e) || attempt == MAX_ATTEMPTS) {
+                        throw new DatabaseException("Error registering member " + memberId + " for event " + eventId, e);
+                    }
+                    connectionLost |= isConnectionLoss(e);
+                    retries.increment();
+                }
+            }
+        } finally {
+            totalLatencyNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private Outcome tryRegister(int memberId, int eventId) throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                long updateStart = System.nanoTime();
+                int taken;
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "UPDATE Events SET registered_count = registered_count + 1 " +
+                        "WHERE event_id = ? AND (capacity IS NULL OR registered_count < capacity)")) {
+                    stmt.setInt(1, eventId);
+                    taken = stmt.executeUpdate();
+                } finally {
+                    recordCounterUpdate(System.nanoTime() - updateStart);
+                }
+                if (taken == 0) {
+                    conn.rollback();
+                    return eventExists(conn, eventId) ? Outcome.EVENT_FULL : Outcome.UNKNOWN_EVENT;
+                }
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "INSERT INTO EventRegistrations (member_id, event_id, registration_date) VALUES (?, ?, CURDATE())")) {
+                    stmt.setInt(1, memberId);
+                    stmt.setInt(2, eventId);
+                    stmt.executeUpdate();
+                } catch (SQLIntegrityConstraintViolationException e) {
+                    // Rolling back also returns the place taken above
+                    conn.rollback();
+                    if (e.getErrorCode() == ER_DUP_ENTRY) {
+                        return Outcome.ALREADY_REGISTERED;
+                    }
+                    if (e.getErrorCode() == ER_NO_REFERENCED_ROW) {
+                        return Outcome.UNKNOWN_MEMBER;
+                    }
+                    throw e;
+                }
+                conn.commit();
+                return Outcome.REGISTERED;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Removes a registration and gives its place back
+     */
+    public boolean cancel(int memberId, int eventId) {
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int removed;
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "DELETE FROM EventRegistrations WHERE member_id = ? AND event_id = ?")) {
+                    stmt.setInt(1, memberId);
+                    stmt.setInt(2, eventId);
+                    removed = stmt.executeUpdate();
+                }
+                if (removed > 0) {
+                    try (PreparedStatement stmt = conn.prepareStatement(
+                            "UPDATE Events SET registered_count = registered_count - 1 WHERE event_id = ?")) {
+                        stmt.setInt(1, eventId);
+                        stmt.executeUpdate();
+                    }
+                }
+                conn.commit();
+                return removed > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error cancelling registration of member " + memberId + " for event " + eventId, e);
+        }
+    }
+
+    /**
+     * Sets the event's capacity; null removes the limit. Places already taken are kept
+     * even if the new capacity is lower.
+     */
+    public boolean setCapacity(int eventId, Integer capacity) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("UPDATE Events SET capacity = ? WHERE event_id = ?")) {
+            
+            if (capacity != null) {
+                stmt.setInt(1, capacity);
+            } else {
+                stmt.setNull(1, Types.INTEGER);
+            }
+            stmt.setInt(2, eventId);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new DatabaseException("Error setting capacity of event " + eventId, e);
+        }
+    }
+
+    /**
+     * Capacity of the event, or null when it is unlimited or the event doesn't exist
+     */
+    public Integer getCapacity(int eventId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT capacity FROM Events WHERE event_id = ?")) {
+            
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    int capacity = rs.getInt("capacity");
+                    return rs.wasNull() ? null : capacity;
+                }
+                return null;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error reading capacity of event " + eventId, e);
+        }
+    }
+
+    /**
+     * Places taken, read from the maintained counter rather than counted
+     */
+    public int countRegistrations(int eventId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT registered_count FROM Events WHERE event_id = ?")) {
+            
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt("registered_count") : 0;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting registrations for event " + eventId, e);
+        }
+    }
+
+    public List<Integer> findRegisteredMemberIds(int eventId) {
+        List<Integer> memberIds = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT member_id FROM EventRegistrations WHERE event_id = ? ORDER BY registration_id")) {
+            
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    memberIds.add(rs.getInt("member_id"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding registrations for event " + eventId, e);
+        }
+        return memberIds;
+    }
+
+    public boolean isRegistered(int memberId, int eventId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT 1 FROM EventRegistrations WHERE member_id = ? AND event_id = ?")) {
+            
+            stmt.setInt(1, memberId);
+            stmt.setInt(2, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error checking registration of member " + memberId + " for event " + eventId, e);
+        }
+    }
+
+    public RegistrationMetrics getMetrics() {
+        long first = firstAttemptNanos.get();
+        return new RegistrationMetrics(attempts.sum(), registered.sum(), alreadyRegistered.sum(),
+                rejectedFull.sum(), retries.sum(), first == 0 ? 0 : System.nanoTime() - first,
+                totalLatencyNanos.sum(), counterUpdateNanos.sum(), maxCounterUpdateNanos.get());
+    }
+
+    private boolean eventExists(Connection conn, int eventId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM Events WHERE event_id = ?")) {
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private void recordCounterUpdate(long nanos) {
+        counterUpdateNanos.add(nanos);
+        maxCounterUpdateNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // Deadlocks (SQLState 40001) and lock wait timeouts roll back and can be retried;
+    // so can a lost connection, whose outcome is settled by the unique key
+    private static boolean isTransient(SQLException e) {
+        return e instanceof SQLTransactionRollbackException || e.getErrorCode() == ER_LOCK_WAIT_TIMEOUT
+                || isConnectionLoss(e);
+    }
+
+    // Connector/J reports a dropped connection as SQLState class 08 (e.g. 08S01)
+    private static boolean isConnectionLoss(SQLException e) {
+        return e instanceof SQLRecoverableException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("08"));
+    }
+}
@@ -1,15 +1,39 @@
 package service;
 
 import db.DBConnection;
+import db.QueryStream;
+import exception.BookingConflictException;
 import exception.DatabaseException;
 import exception.ValidationException;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 import model.Event;
+import model.EventView;
 
 public class EventService implements CrudService<Event, Integer> {
     
+    // Venue bookings, loaded on the first availability check and kept current by
+    // this service's writes. Writes made by other clients are picked up by
+    // invalidateVenueSchedule(), which marks it for reloading in place.
+    private final VenueSchedule venueSchedule = new VenueSchedule();
+    // Held from each booking check until the row is written and booked, and while the
+    // schedule is released or reloaded, so two writers never both pass a check
+    private final Object bookingLock = new Object();
+    private volatile boolean scheduleStale = true;
+    
+    private static final String EVENT_VIEW_SELECT =
+            "SELECT e.event_id, e.event_name, e.description, e.club_id, e.event_date, e.venue_id, " +
+            "c.club_name, v.venue_name " +
+            "FROM Events e " +
+            "LEFT JOIN Clubs c ON c.club_id = e.club_id " +
+            "LEFT JOIN Venues v ON v.venue_id = e.venue_id";
+    
     @Override
     public Event findById(Integer id) {
         try (Connection conn = DBConnection.getConnection();
@@ -57,12 +81,128 @@ public class EventService implements CrudService<Event, Integer> {
         return events;
     }
     
+    @Override
+    public List<Event> findPage(Integer afterId, int limit) {
+        List<Event> events = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT * FROM Events WHERE event_id > ? ORDER BY event_id LIMIT ?")) {
+            
+            stmt.setInt(1, afterId != null ? afterId : Integer.MIN_VALUE);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapEvent(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error fetching event page after ID: " + afterId, e);
+        }
+        return events;
+    }
+    
+    @Override
+    public Stream<Event> streamAll() {
+        return QueryStream.of("SELECT * FROM Events ORDER BY event_id", this::mapEvent, "Error streaming events");
+    }
+    
+    @Override
+    public BatchResult saveAll(Collection<Event> events) {
+        Set<Integer> booked = new HashSet<>();
+        synchronized (bookingLock) {
+            VenueSchedule schedule = loadedSchedule();
+            BatchResult result = BatchWriter.execute(
+                    "INSERT INTO Events (event_id, event_name, description, club_id, event_date, venue_id) VALUES (?, ?, ?, ?, ?, ?)",
+                    events, (stmt, event) -> {
+                        if (!event.isValid()) {
+                            throw new ValidationException("Invalid event data");
+                        }
+                        requireVenueFree(schedule, event);
+                        // Booked as it is bound so later rows of the same batch see it
+                        schedule.book(event.getEventId(), event.getVenueId(), event.getEventDate());
+                        booked.add(event.getEventId());
+                        stmt.setInt(1, event.getEventId());
+                        stmt.setString(2, event.getEventName());
+                        stmt.setString(3, event.getDescription());
+                        stmt.setInt(4, event.getClubId());
+                        stmt.setDate(5, new java.sql.Date(event.getEventDate().getTime()));
+                        stmt.setInt(6, event.getVenueId());
+                    }, Event::getEventId);
+            return checkBookings(result, booked);
+        }
+    }
+    
+    @Override
+    public BatchResult updateAll(Collection<Event> events) {
+        Set<Integer> booked = new HashSet<>();
+        synchronized (bookingLock) {
+            VenueSchedule schedule = loadedSchedule();
+            BatchResult result = BatchWriter.execute(
+                    "UPDATE Events SET event_name = ?, description = ?, club_id = ?, event_date = ?, venue_id = ? WHERE event_id = ?",
+                    events, (stmt, event) -> {
+                        if (!event.isValid()) {
+                            throw new ValidationException("Invalid event data");
+                        }
+                        requireVenueFree(schedule, event);
+                        schedule.book(event.getEventId(), event.getVenueId(), event.getEventDate());
+                        booked.add(event.getEventId());
+                        stmt.setString(1, event.getEventName());
+                        stmt.setString(2, event.getDescription());
+                        stmt.setInt(3, event.getClubId());
+                        stmt.setDate(4, new java.sql.Date(event.getEventDate().getTime()));
+                        stmt.setInt(5, event.getVenueId());
+                        stmt.setInt(6, event.getEventId());
+                    }, Event::getEventId);
+            return checkBookings(result, booked);
+        }
+    }
+    
+    @Override
+    public BatchResult deleteAll(Collection<Integer> ids) {
+        synchronized (bookingLock) {
+            BatchResult result = BatchWriter.execute("DELETE FROM Events WHERE event_id = ?",
+                    ids, (stmt, id) -> stmt.setInt(1, id), id -> id);
+            if (result.hasFailures()) {
+                invalidateVenueSchedule();
+            } else {
+                ids.forEach(venueSchedule::release);
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * A row booked while binding that the database then rejected has left a booking
+     * for an event that doesn't exist (or moved a real one), so the schedule is
+     * rebuilt from the table on the next check. Rows rejected as booking conflicts
+     * were never booked and need nothing.
+     */
+    private BatchResult checkBookings(BatchResult result, Set<Integer> booked) {
+        for (BatchResult.Failure failure : result.getFailures()) {
+            if (booked.contains(failure.getId())) {
+                invalidateVenueSchedule();
+                break;
+            }
+        }
+        return result;
+    }
+    
     @Override
     public Event save(Event event) {
         if (!event.isValid()) {
             throw new ValidationException("Invalid event data");
         }
         
+        synchronized (bookingLock) {
+            VenueSchedule schedule = loadedSchedule();
+            requireVenueFree(schedule, event);
+            insert(event);
+            schedule.book(event.getEventId(), event.getVenueId(), event.getEventDate());
+        }
+        return event;
+    }
+    
+    private void insert(Event event) {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                      "INSERT INTO Events (event_id, event_name, description, club_id, event_date, venue_id) VALUES (?, ?, ?, ?, ?, ?)",
@@ -79,8 +219,6 @@ public class EventService implements CrudService<Event, Integer> {
             if (affectedRows == 0) {
                 throw new DatabaseException("Creating event failed, no rows affected.");
             }
-            
-            return event;
         } catch (SQLException e) {
             throw new DatabaseException("Error saving event", e);
         }
@@ -92,6 +230,18 @@ public class EventService implements CrudService<Event, Integer> {
             throw new ValidationException("Invalid event data");
         }
         
+        synchronized (bookingLock) {
+            VenueSchedule schedule = loadedSchedule();
+            requireVenueFree(schedule, event);
+            boolean updated = updateRow(event);
+            if (updated) {
+                schedule.book(event.getEventId(), event.getVenueId(), event.getEventDate());
+            }
+            return updated;
+        }
+    }
+    
+    private boolean updateRow(Event event) {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                      "UPDATE Events SET event_name = ?, description = ?, club_id = ?, event_date = ?, venue_id = ? WHERE event_id = ?")) {
@@ -112,18 +262,88 @@ public class EventService implements CrudService<Event, Integer> {
     
     @Override
     public boolean delete(Integer id) {
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement("DELETE FROM Events WHERE event_id = ?")) {
-            
-            stmt.setInt(1, id);
-            
-            int affectedRows = stmt.executeUpdate();
-            return affectedRows > 0;
-        } catch (SQLException e) {
-            throw new DatabaseException("Error deleting event", e);
+        synchronized (bookingLock) {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement("DELETE FROM Events WHERE event_id = ?")) {
+                
+                stmt.setInt(1, id);
+                
+                int affectedRows = stmt.executeUpdate();
+                if (affectedRows > 0) {
+                    venueSchedule.release(id);
+                }
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                throw new DatabaseException("Error deleting event", e);
+            }
+        }
+    }
+    
+    /**
+     * ID of another event booked at the venue on the date, or 0 if the venue is free.
+     * ignoreEventId is the event being edited, which doesn't clash with itself.
+     */
+    public int findVenueConflict(int venueId, Date date, int ignoreEventId) {
+        synchronized (bookingLock) {
+            return loadedSchedule().findConflict(venueId, date, ignoreEventId);
+        }
+    }
+    
+    public boolean isVenueFree(int venueId, Date date) {
+        synchronized (bookingLock) {
+            return loadedSchedule().isFree(venueId, date);
+        }
+    }
+    
+    /**
+     * First date on or after from when the venue has no event
+     */
+    public Date findNextFreeDate(int venueId, Date from) {
+        synchronized (bookingLock) {
+            return loadedSchedule().nextFreeDate(venueId, from);
         }
     }
     
+    /**
+     * Marks the venue schedule stale; the next check reloads it from the Events table
+     * under the booking lock
+     */
+    public void invalidateVenueSchedule() {
+        scheduleStale = true;
+    }
+    
+    private void requireVenueFree(VenueSchedule schedule, Event event) {
+        int conflict = schedule.findConflict(event.getVenueId(), event.getEventDate(), event.getEventId());
+        if (conflict != 0) {
+            throw new BookingConflictException(event.getVenueId(), event.getEventDate(), conflict,
+                    schedule.nextFreeDate(event.getVenueId(), event.getEventDate()));
+        }
+    }
+    
+    // Caller holds bookingLock
+    private VenueSchedule loadedSchedule() {
+        if (scheduleStale) {
+            VenueSchedule schedule = venueSchedule;
+            // Reset before loading, so an invalidation during the load marks it stale again
+            scheduleStale = false;
+            schedule.clear();
+            try (Connection conn = DBConnection.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                
+                try (ResultSet rs = stmt.executeQuery(
+                        "SELECT event_id, venue_id, event_date FROM Events WHERE venue_id IS NOT NULL AND event_date IS NOT NULL")) {
+                    while (rs.next()) {
+                        schedule.book(rs.getInt("event_id"), rs.getInt("venue_id"), rs.getDate("event_date"));
+                    }
+                }
+            } catch (SQLException e) {
+                scheduleStale = true;
+                throw new DatabaseException("Error loading venue bookings", e);
+            }
+        }
+        return venueSchedule;
+    }
+    
     // Additional methods specific to events
     public List<Event> findEventsByClub(int clubId) {
         List<Event> events = new ArrayList<>();
@@ -171,4 +391,187 @@ public class EventService implements CrudService<Event, Integer> {
         }
         return events;
     }
+    
+    /**
+     * Runs the filter as a single parameterised statement so that only matching rows
+     * leave the database. Date predicates compare the bare event_date column so the
+     * event_date indexes can be used.
+     */
+    public List<EventView> findViews(EventFilter filter) {
+        StringBuilder sql = new StringBuilder(EVENT_VIEW_SELECT);
+        List<Object> params = new ArrayList<>();
+        String clause = " WHERE ";
+        if (filter.getUpcoming() != null) {
+            sql.append(clause).append(filter.getUpcoming() ? "e.event_date >= CURDATE()" : "e.event_date < CURDATE()");
+            clause = " AND ";
+        }
+        if (filter.getFrom() != null) {
+            sql.append(clause).append("e.event_date >= ?");
+            params.add(new java.sql.Date(filter.getFrom().getTime()));
+            clause = " AND ";
+        }
+        if (filter.getTo() != null) {
+            sql.append(clause).append("e.event_date <= ?");
+            params.add(new java.sql.Date(filter.getTo().getTime()));
+            clause = " AND ";
+        }
+        if (filter.getClubId() != 0) {
+            sql.append(clause).append("e.club_id = ?");
+            params.add(filter.getClubId());
+            clause = " AND ";
+        }
+        if (filter.getVenueId() != 0) {
+            sql.append(clause).append("e.venue_id = ?");
+            params.add(filter.getVenueId());
+            clause = " AND ";
+        }
+        if (filter.getAfter() != null) {
+            sql.append(clause).append(keysetPredicate(filter.getSort(), filter.getAfter(), params));
+        }
+        sql.append(" ORDER BY ").append(filter.getSort().orderBy());
+        if (filter.getLimit() > 0) {
+            sql.append(" LIMIT ?");
+            params.add(filter.getLimit());
+        }
+        
+        List<EventView> events = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapEventView(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error filtering events", e);
+        }
+        return events;
+    }
+    
+    // Rows strictly after the given event in the sort order; NULL dates sort first ascending, last descending
+    private static String keysetPredicate(EventFilter.Sort sort, Event after, List<Object> params) {
+        java.sql.Date date = after.getEventDate() != null ? new java.sql.Date(after.getEventDate().getTime()) : null;
+        switch (sort) {
+            case DATE_ASC:
+                if (date == null) {
+                    params.add(after.getEventId());
+                    return "(e.event_date IS NOT NULL OR e.event_id > ?)";
+                }
+                params.add(date);
+                params.add(date);
+                params.add(after.getEventId());
+                return "(e.event_date > ? OR (e.event_date = ? AND e.event_id > ?))";
+            case DATE_DESC:
+                if (date == null) {
+                    params.add(after.getEventId());
+                    return "(e.event_date IS NULL AND e.event_id < ?)";
+                }
+                params.add(date);
+                params.add(date);
+                params.add(after.getEventId());
+                return "(e.event_date < ? OR (e.event_date = ? AND e.event_id < ?) OR e.event_date IS NULL)";
+            case NAME:
+                params.add(after.getEventName());
+                params.add(after.getEventName());
+                params.add(after.getEventId());
+                return "(e.event_name > ? OR (e.event_name = ? AND e.event_id > ?))";
+            default:
+                params.add(after.getEventId());
+                return "e.event_id > ?";
+        }
+    }
+    
+    /**
+     * Events dated from..to inclusive, by date then ID. The range is a seek on
+     * idx_events_date (database/migrations/001_event_filter_indexes.sql).
+     */
+    public List<EventView> findBetween(Date from, Date to) {
+        List<EventView> events = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(EVENT_VIEW_SELECT +
+                     " WHERE e.event_date BETWEEN ? AND ? ORDER BY e.event_date, e.event_id")) {
+            
+            stmt.setDate(1, new java.sql.Date(from.getTime()));
+            stmt.setDate(2, new java.sql.Date(to.getTime()));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapEventView(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding events between " + from + " and " + to, e);
+        }
+        return events;
+    }
+    
+    /**
+     * Keyset page of the Events grid projection, in event ID order
+     */
+    public List<EventView> findViewPage(Integer afterId, int limit) {
+        List<EventView> events = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(EVENT_VIEW_SELECT +
+                     " WHERE e.event_id > ? ORDER BY e.event_id LIMIT ?")) {
+            
+            stmt.setInt(1, afterId != null ? afterId : Integer.MIN_VALUE);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapEventView(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error fetching event view page after ID: " + afterId, e);
+        }
+        return events;
+    }
+    
+    /**
+     * Every row of the Events grid projection, streamed; the stream must be closed
+     */
+    public Stream<EventView> streamAllViews() {
+        return QueryStream.of(EVENT_VIEW_SELECT + " ORDER BY e.event_id", this::mapEventView,
+                "Error streaming event views");
+    }
+    
+    public EventView findViewById(int eventId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(EVENT_VIEW_SELECT + " WHERE e.event_id = ?")) {
+            
+            stmt.setInt(1, eventId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapEventView(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding event view by ID: " + eventId, e);
+        }
+    }
+    
+    private Event mapEvent(ResultSet rs) throws SQLException {
+        Event event = new Event();
+        event.setEventId(rs.getInt("event_id"));
+        event.setEventName(rs.getString("event_name"));
+        event.setDescription(rs.getString("description"));
+        event.setClubId(rs.getInt("club_id"));
+        event.setEventDate(rs.getDate("event_date"));
+        event.setVenueId(rs.getInt("venue_id"));
+        return event;
+    }
+    
+    private EventView mapEventView(ResultSet rs) throws SQLException {
+        EventView event = new EventView();
+        event.setEventId(rs.getInt("event_id"));
+        event.setEventName(rs.getString("event_name"));
+        event.setDescription(rs.getString("description"));
+        event.setClubId(rs.getInt("club_id"));
+        event.setEventDate(rs.getDate("event_date"));
+        event.setVenueId(rs.getInt("venue_id"));
+        event.setClubName(rs.getString("club_name"));
+        event.setVenueName(rs.getString("venue_name"));
+        return event;
+    }
 }
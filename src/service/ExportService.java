@@ -0,0 +1,179 @@
+package service;
+
+import exception.ExportException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import model.EventView;
+import model.MemberView;
+
+/**
+ * Writes members and events to CSV or JSON Lines, optionally gzipped.
+ * Rows come from a forward-only streamed query and are written as they are read,
+ * so memory use does not grow with the table.
+ */
+public class ExportService {
+
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * Picks the format from a file name such as members.csv or events.jsonl.gz
+         */
+        public static Format fromFileName(String fileName) {
+            String name = fileName.toLowerCase();
+            if (name.endsWith(".gz")) {
+                name = name.substring(0, name.length() - 3);
+            }
+            return name.endsWith(".jsonl") || name.endsWith(".json") ? JSONL : CSV;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] MEMBER_COLUMNS =
+            {"member_id", "member_name", "email", "phone", "join_date", "club_id", "club"};
+    private static final String[] EVENT_COLUMNS =
+            {"event_id", "event_name", "description", "event_date", "club_id", "club", "venue_id", "venue"};
+
+    private final MemberService memberService;
+    private final EventService eventService;
+
+    public ExportService(MemberService memberService, EventService eventService) {
+        this.memberService = memberService;
+        this.eventService = eventService;
+    }
+
+    /**
+     * @return number of rows written
+     */
+    public long exportMembers(Path file, Format format, boolean gzip) {
+        try (Stream<MemberView> members = memberService.streamAllViews()) {
+            return write(file, format, gzip, MEMBER_COLUMNS, members, m -> new Object[]{
+                    m.getMemberId(), m.getMemberName(), m.getEmail(), m.getPhone(),
+                    m.getJoinDate(), m.getClubId(), m.getClubName()});
+        }
+    }
+
+    public long exportEvents(Path file, Format format, boolean gzip) {
+        try (Stream<EventView> events = eventService.streamAllViews()) {
+            return write(file, format, gzip, EVENT_COLUMNS, events, e -> new Object[]{
+                    e.getEventId(), e.getEventName(), e.getDescription(), e.getEventDate(),
+                    e.getClubId(), e.getClubName(), e.getVenueId(), e.getVenueName()});
+        }
+    }
+
+    private <T> long write(Path file, Format format, boolean gzip, String[] columns,
+                           Stream<T> rows, Function<T, Object[]> values) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        long count = 0;
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             OutputStream out = gzip ? new GZIPOutputStream(fileOut, BUFFER_SIZE) : fileOut;
+             Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+
+            if (format == Format.CSV) {
+                writeCsvLine(writer, columns);
+            }
+            Iterator<T> it = rows.iterator();
+            while (it.hasNext()) {
+                Object[] row = values.apply(it.next());
+                for (int i = 0; i < row.length; i++) {
+                    if (row[i] instanceof Date) {
+                        row[i] = dateFormat.format((Date) row[i]);
+                    }
+                }
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, row);
+                } else {
+                    writeJsonLine(writer, columns, row);
+                }
+                count++;
+            }
+        } catch (IOException e) {
+            throw new ExportException("Error writing export to " + file, e);
+        }
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] == null) {
+                continue;
+            }
+            String value = values[i].toString();
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeJsonLine(Writer writer, String[] columns, Object[] values) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeJsonString(writer, columns[i]);
+            writer.write(':');
+            if (values[i] == null) {
+                writer.write("null");
+            } else if (values[i] instanceof Number) {
+                writer.write(values[i].toString());
+            } else {
+                writeJsonString(writer, values[i].toString());
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,234 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import exception.ValidationException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import model.FeedbackSummary;
+import utils.IntIntMap;
+
+/**
+ * Event ratings (EventFeedback) with per-event totals kept in memory.
+ *
+ * Each event has a slot in flat primitive arrays: rating count, rating sum, and
+ * five histogram buckets. Feedback added or deleted through this service updates
+ * its slot after the database write, so the Events tab and the dashboards read an
+ * average in O(1) without AVG() over the table. reconcile() rebuilds the arrays
+ * from one GROUP BY query. It runs at startup and on refresh, and picks up
+ * feedback written by anything else.
+ */
+public class FeedbackService {
+
+    private static final int RATINGS = 5;
+    private static final int INITIAL_SLOTS = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serialises database writes with reconcile() so none is lost or counted twice
+    private final Object writes = new Object();
+
+    private IntIntMap slots = new IntIntMap();
+    private int[] counts = new int[INITIAL_SLOTS];
+    private long[] sums = new long[INITIAL_SLOTS];
+    private int[] histogram = new int[INITIAL_SLOTS * RATINGS];
+    private int usedSlots;
+    private long totalCount;
+    private long totalSum;
+    private final int[] totalHistogram = new int[RATINGS];
+    private volatile boolean reconciled;
+
+    /**
+     * Replaces the in-memory totals with counts read from the database
+     */
+    public void reconcile() {
+        synchronized (writes) {
+            List<int[]> rows = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(
+                         "SELECT event_id, rating, COUNT(*) AS rating_count FROM EventFeedback " +
+                         "WHERE rating BETWEEN 1 AND 5 GROUP BY event_id, rating")) {
+                while (rs.next()) {
+                    rows.add(new int[]{rs.getInt("event_id"), rs.getInt("rating"), rs.getInt("rating_count")});
+                }
+            } catch (SQLException e) {
+                throw new DatabaseException("Error loading feedback totals", e);
+            }
+
+            lock.writeLock().lock();
+            try {
+                slots = new IntIntMap(rows.size());
+                counts = new int[INITIAL_SLOTS];
+                sums = new long[INITIAL_SLOTS];
+                histogram = new int[INITIAL_SLOTS * RATINGS];
+                usedSlots = 0;
+                totalCount = 0;
+                totalSum = 0;
+                Arrays.fill(totalHistogram, 0);
+                for (int[] row : rows) {
+                    add(row[0], row[1], row[2]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            reconciled = true;
+        }
+    }
+
+    /**
+     * Whether reconcile() has run; until then every event reads as unrated
+     */
+    public boolean isReconciled() {
+        return reconciled;
+    }
+
+    /**
+     * Stores a rating and returns the new feedback ID
+     */
+    public int addFeedback(int memberId, int eventId, int rating, String comments) {
+        if (rating < 1 || rating > RATINGS) {
+            throw new ValidationException("Rating must be between 1 and " + RATINGS);
+        }
+        synchronized (writes) {
+            int feedbackId;
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(
+                         "INSERT INTO EventFeedback (member_id, event_id, rating, comments) VALUES (?, ?, ?, ?)",
+                         Statement.RETURN_GENERATED_KEYS)) {
+
+                stmt.setInt(1, memberId);
+                stmt.setInt(2, eventId);
+                stmt.setInt(3, rating);
+                stmt.setString(4, comments);
+                stmt.executeUpdate();
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    feedbackId = keys.next() ? keys.getInt(1) : 0;
+                }
+            } catch (SQLException e) {
+                throw new DatabaseException("Error saving feedback for event " + eventId, e);
+            }
+            apply(eventId, rating, 1);
+            return feedbackId;
+        }
+    }
+
+    /**
+     * Deletes a feedback row and takes its rating out of the totals
+     */
+    public boolean deleteFeedback(int feedbackId) {
+        synchronized (writes) {
+            try (Connection conn = DBConnection.getConnection()) {
+                int eventId;
+                int rating;
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "SELECT event_id, rating FROM EventFeedback WHERE feedback_id = ?")) {
+                    stmt.setInt(1, feedbackId);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        if (!rs.next()) {
+                            return false;
+                        }
+                        eventId = rs.getInt("event_id");
+                        rating = rs.getInt("rating");
+                    }
+                }
+                try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM EventFeedback WHERE feedback_id = ?")) {
+                    stmt.setInt(1, feedbackId);
+                    if (stmt.executeUpdate() == 0) {
+                        return false;
+                    }
+                }
+                if (rating >= 1 && rating <= RATINGS) {
+                    apply(eventId, rating, -1);
+                }
+                return true;
+            } catch (SQLException e) {
+                throw new DatabaseException("Error deleting feedback " + feedbackId, e);
+            }
+        }
+    }
+
+    public FeedbackSummary getSummary(int eventId) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(eventId, -1);
+            if (slot < 0) {
+                return new FeedbackSummary(eventId, 0, 0, new int[RATINGS]);
+            }
+            return new FeedbackSummary(eventId, counts[slot], sums[slot],
+                    Arrays.copyOfRange(histogram, slot * RATINGS, slot * RATINGS + RATINGS));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mean rating of the event, or 0 when it has none
+     */
+    public double getAverageRating(int eventId) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(eventId, -1);
+            return slot < 0 || counts[slot] == 0 ? 0.0 : (double) sums[slot] / counts[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getRatingCount(int eventId) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(eventId, -1);
+            return slot < 0 ? 0 : counts[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Totals over every event, with eventId 0
+     */
+    public FeedbackSummary getOverallSummary() {
+        lock.readLock().lock();
+        try {
+            return new FeedbackSummary(0, totalCount, totalSum, totalHistogram);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(int eventId, int rating, int delta) {
+        lock.writeLock().lock();
+        try {
+            add(eventId, rating, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void add(int eventId, int rating, int delta) {
+        int slot = slots.get(eventId, -1);
+        if (slot < 0) {
+            slot = usedSlots++;
+            slots.put(eventId, slot);
+            if (slot == counts.length) {
+                counts = Arrays.copyOf(counts, slot * 2);
+                sums = Arrays.copyOf(sums, slot * 2);
+                histogram = Arrays.copyOf(histogram, slot * 2 * RATINGS);
+            }
+        }
+        counts[slot] += delta;
+        sums[slot] += (long) rating * delta;
+        histogram[slot * RATINGS + rating - 1] += delta;
+        totalCount += delta;
+        totalSum += (long) rating * delta;
+        totalHistogram[rating - 1] += delta;
+    }
+}
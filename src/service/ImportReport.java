@@ -0,0 +1,87 @@
+package service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of one CSV import. Every rejected line is written to the rejects file;
+ * only the first few reasons are kept here for display.
+ */
+public class ImportReport {
+    private static final int MAX_SAMPLE_REJECTS = 20;
+
+    private final String entity;
+    private final Path rejectsFile;
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private long elapsedMillis;
+    private final List<String> sampleRejects = new ArrayList<>();
+
+    ImportReport(String entity, Path rejectsFile) {
+        this.entity = entity;
+        this.rejectsFile = rejectsFile;
+    }
+
+    void addRead(int count) {
+        rowsRead += count;
+    }
+
+    void addImported(int count) {
+        imported += count;
+    }
+
+    void addRejected(int line, String reason) {
+        rejected++;
+        if (sampleRejects.size() < MAX_SAMPLE_REJECTS) {
+            sampleRejects.add("Line " + line + ": " + reason);
+        }
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rowsRead : rowsRead * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * CSV of line,reason for every rejected row; null when nothing was rejected
+     */
+    public Path getRejectsFile() {
+        return rejected == 0 ? null : rejectsFile;
+    }
+
+    public List<String> getSampleRejects() {
+        return Collections.unmodifiableList(sampleRejects);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s import: %d rows read, %d imported, %d rejected in %.1fs (%.0f rows/sec)",
+                entity, rowsRead, imported, rejected, elapsedMillis / 1000.0, getRowsPerSecond());
+    }
+}
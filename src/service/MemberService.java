@@ -1,15 +1,25 @@
 package service;
 
 import db.DBConnection;
+import db.QueryStream;
 import exception.DatabaseException;
 import exception.ValidationException;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 import model.Member;
+import model.MemberView;
+import utils.IntIntMap;
 
 public class MemberService implements CrudService<Member, Integer> {
     
+    private static final String MEMBER_VIEW_SELECT =
+            "SELECT m.member_id, m.member_name, m.email, m.join_date, m.club_id, m.phone, c.club_name " +
+            "FROM ClubMembers m " +
+            "LEFT JOIN Clubs c ON c.club_id = m.club_id";
+    
     @Override
     public Member findById(Integer id) {
         try (Connection conn = DBConnection.getConnection();
@@ -57,6 +67,71 @@ public class MemberService implements CrudService<Member, Integer> {
         return members;
     }
     
+    @Override
+    public List<Member> findPage(Integer afterId, int limit) {
+        List<Member> members = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT * FROM ClubMembers WHERE member_id > ? ORDER BY member_id LIMIT ?")) {
+            
+            stmt.setInt(1, afterId != null ? afterId : Integer.MIN_VALUE);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    members.add(mapMember(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error fetching member page after ID: " + afterId, e);
+        }
+        return members;
+    }
+    
+    @Override
+    public Stream<Member> streamAll() {
+        return QueryStream.of("SELECT * FROM ClubMembers ORDER BY member_id", this::mapMember, "Error streaming members");
+    }
+    
+    @Override
+    public BatchResult saveAll(Collection<Member> members) {
+        return BatchWriter.execute(
+                "INSERT INTO ClubMembers (member_id, member_name, email, join_date, club_id, phone) VALUES (?, ?, ?, ?, ?, ?)",
+                members, (stmt, member) -> {
+                    if (!member.isValid() || member.getJoinDate() == null) {
+                        throw new ValidationException("Invalid member data");
+                    }
+                    stmt.setInt(1, member.getMemberId());
+                    stmt.setString(2, member.getMemberName());
+                    stmt.setString(3, member.getEmail());
+                    stmt.setDate(4, new java.sql.Date(member.getJoinDate().getTime()));
+                    stmt.setInt(5, member.getClubId());
+                    stmt.setString(6, member.getPhone());
+                }, Member::getMemberId);
+    }
+    
+    @Override
+    public BatchResult updateAll(Collection<Member> members) {
+        return BatchWriter.execute(
+                "UPDATE ClubMembers SET member_name = ?, email = ?, join_date = ?, club_id = ?, phone = ? WHERE member_id = ?",
+                members, (stmt, member) -> {
+                    if (!member.isValid() || member.getJoinDate() == null) {
+                        throw new ValidationException("Invalid member data");
+                    }
+                    stmt.setString(1, member.getMemberName());
+                    stmt.setString(2, member.getEmail());
+                    stmt.setDate(3, new java.sql.Date(member.getJoinDate().getTime()));
+                    stmt.setInt(4, member.getClubId());
+                    stmt.setString(5, member.getPhone());
+                    stmt.setInt(6, member.getMemberId());
+                }, Member::getMemberId);
+    }
+    
+    @Override
+    public BatchResult deleteAll(Collection<Integer> ids) {
+        return BatchWriter.execute("DELETE FROM ClubMembers WHERE member_id = ?",
+                ids, (stmt, id) -> stmt.setInt(1, id), id -> id);
+    }
+    
     @Override
     public Member save(Member member) {
         if (!member.isValid()) {
@@ -147,4 +222,114 @@ public class MemberService implements CrudService<Member, Integer> {
         }
         return members;
     }
+    
+    /**
+     * Member count of each of the given clubs, computed with one GROUP BY over just
+     * their ClubMembers rows. Clubs without members are absent from the map.
+     */
+    public IntIntMap countMembersInClubs(List<Integer> clubIds) {
+        IntIntMap counts = new IntIntMap(clubIds.size());
+        if (clubIds.isEmpty()) {
+            return counts;
+        }
+        StringBuilder sql = new StringBuilder("SELECT club_id, COUNT(*) AS member_count FROM ClubMembers WHERE club_id IN (");
+        for (int i = 0; i < clubIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(") GROUP BY club_id");
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            
+            for (int i = 0; i < clubIds.size(); i++) {
+                stmt.setInt(i + 1, clubIds.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    counts.put(rs.getInt("club_id"), rs.getInt("member_count"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting members by club", e);
+        }
+        return counts;
+    }
+    
+    public int countMembersInClub(int clubId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM ClubMembers WHERE club_id = ?")) {
+            
+            stmt.setInt(1, clubId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting members for club: " + clubId, e);
+        }
+    }
+    
+    /**
+     * Keyset page of the Members grid projection, in member ID order
+     */
+    public List<MemberView> findViewPage(Integer afterId, int limit) {
+        List<MemberView> members = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(MEMBER_VIEW_SELECT +
+                     " WHERE m.member_id > ? ORDER BY m.member_id LIMIT ?")) {
+            
+            stmt.setInt(1, afterId != null ? afterId : Integer.MIN_VALUE);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    members.add(mapMemberView(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error fetching member view page after ID: " + afterId, e);
+        }
+        return members;
+    }
+    
+    /**
+     * Every row of the Members grid projection, streamed; the stream must be closed
+     */
+    public Stream<MemberView> streamAllViews() {
+        return QueryStream.of(MEMBER_VIEW_SELECT + " ORDER BY m.member_id", this::mapMemberView,
+                "Error streaming member views");
+    }
+    
+    public MemberView findViewById(int memberId) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(MEMBER_VIEW_SELECT + " WHERE m.member_id = ?")) {
+            
+            stmt.setInt(1, memberId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapMemberView(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding member view by ID: " + memberId, e);
+        }
+    }
+    
+    private Member mapMember(ResultSet rs) throws SQLException {
+        Member member = new Member();
+        member.setMemberId(rs.getInt("member_id"));
+        member.setMemberName(rs.getString("member_name"));
+        member.setEmail(rs.getString("email"));
+        member.setJoinDate(rs.getDate("join_date"));
+        member.setClubId(rs.getInt("club_id"));
+        member.setPhone(rs.getString("phone"));
+        return member;
+    }
+    
+    private MemberView mapMemberView(ResultSet rs) throws SQLException {
+        MemberView member = new MemberView();
+        member.setMemberId(rs.getInt("member_id"));
+        member.setMemberName(rs.getString("member_name"));
+        member.setEmail(rs.getString("email"));
+        member.setJoinDate(rs.getDate("join_date"));
+        member.setClubId(rs.getInt("club_id"));
+        member.setPhone(rs.getString("phone"));
+        member.setClubName(rs.getString("club_name"));
+        return member;
+    }
 }
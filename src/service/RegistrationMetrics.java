@@ -0,0 +1,80 @@
+package service;
+
+/**
+ * Point-in-time counters of an EventRegistrationService. "Counter update" time is
+ * spent in the conditional UPDATE of the event's registered_count, which includes
+ * waiting for other registrations to the same event to commit, so it is the
+ * measure of contention on popular events.
+ */
+public final class RegistrationMetrics {
+    private final long attempts;
+    private final long registered;
+    private final long alreadyRegistered;
+    private final long rejectedFull;
+    private final long retries;
+    private final long elapsedNanos;
+    private final long totalLatencyNanos;
+    private final long counterUpdateNanos;
+    private final long maxCounterUpdateNanos;
+
+    RegistrationMetrics(long attempts, long registered, long alreadyRegistered, long rejectedFull, long retries,
+                        long elapsedNanos, long totalLatencyNanos, long counterUpdateNanos,
+                        long maxCounterUpdateNanos) {
+        this.attempts = attempts;
+        this.registered = registered;
+        this.alreadyRegistered = alreadyRegistered;
+        this.rejectedFull = rejectedFull;
+        this.retries = retries;
+        this.elapsedNanos = elapsedNanos;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.counterUpdateNanos = counterUpdateNanos;
+        this.maxCounterUpdateNanos = maxCounterUpdateNanos;
+    }
+
+    public long getAttempts() {
+        return attempts;
+    }
+
+    public long getRegistered() {
+        return registered;
+    }
+
+    public long getAlreadyRegistered() {
+        return alreadyRegistered;
+    }
+
+    public long getRejectedFull() {
+        return rejectedFull;
+    }
+
+    /** Transactions retried after a deadlock or lock wait timeout */
+    public long getRetries() {
+        return retries;
+    }
+
+    /** Successful registrations per second since the first attempt */
+    public double getThroughputPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : registered * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double getAverageLatencyMillis() {
+        return attempts == 0 ? 0.0 : totalLatencyNanos / 1_000_000.0 / attempts;
+    }
+
+    public double getAverageCounterUpdateMillis() {
+        return attempts == 0 ? 0.0 : counterUpdateNanos / 1_000_000.0 / attempts;
+    }
+
+    public double getMaxCounterUpdateMillis() {
+        return maxCounterUpdateNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RegistrationMetrics[attempts=%d, registered=%d, alreadyRegistered=%d, full=%d, "
+                        + "retries=%d, throughput=%.1f/s, avgLatency=%.2fms, avgCounterUpdate=%.2fms, "
+                        + "maxCounterUpdate=%.2fms]",
+                attempts, registered, alreadyRegistered, rejectedFull, retries, getThroughputPerSecond(),
+                getAverageLatencyMillis(), getAverageCounterUpdateMillis(), getMaxCounterUpdateMillis());
+    }
+}
@@ -0,0 +1,254 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import model.Club;
+import model.EventView;
+import model.MemberView;
+import utils.InvertedIndex;
+import utils.TrigramIndex;
+
+/**
+ * In-memory search over clubs, members and events for the header search box.
+ * The indexes are built from the database on first use and then kept current
+ * by the index/remove calls made after each save and delete; bulk changes such
+ * as imports call invalidate() so the next search rebuilds.
+ *
+ * Indexed fields: club name and description; member name, email and phone;
+ * event name and description. Member name and email and event name also have a
+ * trigram index for infix ("ohn@gm") and typo-tolerant ("jonh") matches.
+ *
+ * The find* methods back search-as-you-type: given the previous result they
+ * filter it in memory when the new query extends the old one.
+ */
+public class SearchIndexService {
+
+    private final CrudService<Club, Integer> clubService;
+    private final MemberService memberService;
+    private final EventService eventService;
+
+    private final InvertedIndex<Club> clubs =
+            new InvertedIndex<>(c -> new String[]{c.getClubName(), c.getClubDescription()});
+    private final InvertedIndex<MemberView> members =
+            new InvertedIndex<>(m -> new String[]{m.getMemberName(), m.getEmail(), m.getPhone()});
+    private final InvertedIndex<EventView> events =
+            new InvertedIndex<>(e -> new String[]{e.getEventName(), e.getDescription()});
+    private final TrigramIndex<MemberView> memberGrams =
+            new TrigramIndex<>(m -> new String[]{m.getMemberName(), m.getEmail()});
+    private final TrigramIndex<EventView> eventGrams =
+            new TrigramIndex<>(e -> new String[]{e.getEventName()});
+
+    // Fuzzy results are ranked, so only the closest are kept
+    public static final int FUZZY_LIMIT = 200;
+    // Above this many rows a fresh index lookup is cheaper than re-checking each row
+    private static final int NARROW_MAX_ROWS = 5000;
+
+    private volatile boolean built = false;
+    // Bumped by every index change so results read before it are not narrowed
+    private volatile long version;
+
+    public SearchIndexService(CrudService<Club, Integer> clubService, MemberService memberService,
+                              EventService eventService) {
+        this.clubService = clubService;
+        this.memberService = memberService;
+        this.eventService = eventService;
+    }
+
+    /**
+     * Clubs matching every word of the query
+     */
+    public SearchResult<Club> findClubs(String query, SearchResult<Club> previous) {
+        return find(query, previous, clubs, null);
+    }
+
+    /**
+     * Members matching every word of the query; failing that, members containing
+     * the query, and failing that, the closest fuzzy matches
+     */
+    public SearchResult<MemberView> findMembers(String query, SearchResult<MemberView> previous) {
+        return find(query, previous, members, memberGrams);
+    }
+
+    /**
+     * Events matched like findMembers
+     */
+    public SearchResult<EventView> findEvents(String query, SearchResult<EventView> previous) {
+        return find(query, previous, events, eventGrams);
+    }
+
+    public List<Club> searchClubs(String query, int limit) {
+        ensureBuilt();
+        return clubs.search(query, limit);
+    }
+
+    public List<MemberView> searchMembers(String query, int limit) {
+        ensureBuilt();
+        return members.search(query, limit);
+    }
+
+    public List<EventView> searchEvents(String query, int limit) {
+        ensureBuilt();
+        return events.search(query, limit);
+    }
+
+    /**
+     * Members whose name or email contains the query anywhere, e.g. "ohn@gm"
+     */
+    public List<MemberView> searchMembersInfix(String query, int limit) {
+        ensureBuilt();
+        return memberGrams.searchInfix(query, limit);
+    }
+
+    /**
+     * Members whose name or email nearly contains the query, closest first
+     */
+    public List<MemberView> searchMembersFuzzy(String query, int limit) {
+        ensureBuilt();
+        return documents(memberGrams.searchFuzzy(query, maxEdits(query), limit));
+    }
+
+    public List<EventView> searchEventsInfix(String query, int limit) {
+        ensureBuilt();
+        return eventGrams.searchInfix(query, limit);
+    }
+
+    public List<EventView> searchEventsFuzzy(String query, int limit) {
+        ensureBuilt();
+        return documents(eventGrams.searchFuzzy(query, maxEdits(query), limit));
+    }
+
+    public void indexClub(Club club) {
+        version++;
+        clubs.put(club.getClubId(), club);
+        // Club names are shown with member and event results but are not indexed there
+        members.updateIf(m -> m.getClubId() == club.getClubId(), m -> m.setClubName(club.getClubName()));
+        memberGrams.updateIf(m -> m.getClubId() == club.getClubId(), m -> m.setClubName(club.getClubName()));
+        events.updateIf(e -> e.getClubId() == club.getClubId(), e -> e.setClubName(club.getClubName()));
+        eventGrams.updateIf(e -> e.getClubId() == club.getClubId(), e -> e.setClubName(club.getClubName()));
+    }
+
+    public void removeClub(int clubId) {
+        version++;
+        clubs.remove(clubId);
+        // ClubMembers rows are removed by ON DELETE CASCADE
+        members.removeIf(m -> m.getClubId() == clubId);
+        memberGrams.removeIf(m -> m.getClubId() == clubId);
+    }
+
+    public void indexMember(MemberView member) {
+        version++;
+        members.put(member.getMemberId(), member);
+        memberGrams.put(member.getMemberId(), member);
+    }
+
+    public void removeMember(int memberId) {
+        version++;
+        members.remove(memberId);
+        memberGrams.remove(memberId);
+    }
+
+    public void indexEvent(EventView event) {
+        version++;
+        events.put(event.getEventId(), event);
+        eventGrams.put(event.getEventId(), event);
+    }
+
+    public void removeEvent(int eventId) {
+        version++;
+        events.remove(eventId);
+        eventGrams.remove(eventId);
+    }
+
+    /**
+     * Drops the indexes; the next search rebuilds them from the database
+     */
+    public synchronized void invalidate() {
+        version++;
+        built = false;
+    }
+
+    /**
+     * Builds the indexes now, so the first search does not wait for them
+     */
+    public void preload() {
+        ensureBuilt();
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (built) {
+                return;
+            }
+            clubs.clear();
+            members.clear();
+            events.clear();
+            memberGrams.clear();
+            eventGrams.clear();
+            for (Club club : clubService.findAll()) {
+                clubs.put(club.getClubId(), club);
+            }
+            try (Stream<MemberView> rows = memberService.streamAllViews()) {
+                rows.forEach(m -> {
+                    members.put(m.getMemberId(), m);
+                    memberGrams.put(m.getMemberId(), m);
+                });
+            }
+            try (Stream<EventView> rows = eventService.streamAllViews()) {
+                rows.forEach(e -> {
+                    events.put(e.getEventId(), e);
+                    eventGrams.put(e.getEventId(), e);
+                });
+            }
+            built = true;
+        }
+    }
+
+    private <T> SearchResult<T> find(String query, SearchResult<T> previous,
+                                     InvertedIndex<T> words, TrigramIndex<T> grams) {
+        ensureBuilt();
+        long readVersion = version;
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        if (previous != null && previous.canNarrowTo(term, readVersion)
+                && previous.getRows().size() <= NARROW_MAX_ROWS) {
+            boolean byWords = previous.getMatch() == SearchResult.Match.WORDS;
+            List<T> rows = new ArrayList<>();
+            for (T row : previous.getRows()) {
+                if (byWords ? words.matches(row, term) : grams.matchesInfix(row, term)) {
+                    rows.add(row);
+                }
+            }
+            // An empty narrowing falls through so the infix and fuzzy fallbacks still run
+            if (!rows.isEmpty()) {
+                return new SearchResult<>(term, rows, previous.getMatch(), true, readVersion);
+            }
+        }
+        List<T> rows = words.search(term, Integer.MAX_VALUE);
+        if (!rows.isEmpty() || grams == null) {
+            return new SearchResult<>(term, rows, SearchResult.Match.WORDS, false, readVersion);
+        }
+        rows = grams.searchInfix(term, Integer.MAX_VALUE);
+        if (!rows.isEmpty()) {
+            return new SearchResult<>(term, rows, SearchResult.Match.INFIX, false, readVersion);
+        }
+        rows = documents(grams.searchFuzzy(term, maxEdits(term), FUZZY_LIMIT));
+        return new SearchResult<>(term, rows, SearchResult.Match.FUZZY, false, readVersion);
+    }
+
+    // One typo in short queries, two in longer ones
+    private static int maxEdits(String query) {
+        return query.trim().length() <= 5 ? 1 : 2;
+    }
+
+    private static <T> List<T> documents(List<TrigramIndex.Match<T>> matches) {
+        List<T> documents = new ArrayList<>(matches.size());
+        for (TrigramIndex.Match<T> match : matches) {
+            documents.add(match.getDocument());
+        }
+        return documents;
+    }
+}
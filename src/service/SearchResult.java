@@ -0,0 +1,62 @@
+package service;
+
+import java.util.List;
+
+/**
+ * Rows returned by a SearchIndexService find* call, with what is needed to narrow
+ * them when the user keeps typing: the query, how the rows were matched and the
+ * index version they were read from.
+ */
+public final class SearchResult<T> {
+
+    public enum Match {
+        /** Every word of the query starts a word in the document */
+        WORDS,
+        /** The query appears somewhere in a field ("ohn@gm") */
+        INFIX,
+        /** Closest documents within a few typos; not narrowable */
+        FUZZY
+    }
+
+    private final String query;
+    private final List<T> rows;
+    private final Match match;
+    private final boolean narrowed;
+    private final long version;
+
+    SearchResult(String query, List<T> rows, Match match, boolean narrowed, long version) {
+        this.query = query;
+        this.rows = rows;
+        this.match = match;
+        this.narrowed = narrowed;
+        this.version = version;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    public Match getMatch() {
+        return match;
+    }
+
+    /**
+     * True when the rows were filtered from the previous result instead of searched
+     */
+    public boolean isNarrowed() {
+        return narrowed;
+    }
+
+    /**
+     * Word and infix matches for a longer query are a subset of the matches for
+     * the query it extends, as long as the index has not changed in between
+     */
+    boolean canNarrowTo(String newQuery, long currentVersion) {
+        return match != Match.FUZZY && version == currentVersion && !rows.isEmpty()
+                && newQuery.startsWith(query);
+    }
+}
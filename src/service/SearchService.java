@@ -0,0 +1,137 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import model.SearchHit;
+import utils.InvertedIndex;
+
+/**
+ * Server-side full-text search over club descriptions, event descriptions and
+ * announcement content using the FULLTEXT indexes from
+ * database/migrations/002_fulltext_search_indexes.sql. MySQL does the matching
+ * and ranking, and only the requested page of hits, with the first
+ * SNIPPET_LENGTH characters of each text, is sent back.
+ *
+ * Every word of the query must appear, and words match as prefixes ("photo"
+ * finds "photography"). Relevance scores from different FULLTEXT indexes are not
+ * comparable, so each kind is ranked on its own and the kinds are interleaved by
+ * rank: the best club, event and announcement, then the second of each, and so on.
+ */
+public class SearchService {
+    
+    public static final int SNIPPET_LENGTH = 200;
+    
+    private static final String CLUB_HITS =
+            "SELECT 'CLUB' AS kind, c.club_id AS id, c.club_name AS title, " +
+            "LEFT(c.club_description, " + SNIPPET_LENGTH + ") AS snippet, c.club_name, NULL AS hit_date, " +
+            "MATCH(c.club_name, c.club_description) AGAINST (? IN BOOLEAN MODE) AS relevance " +
+            "FROM Clubs c " +
+            "WHERE MATCH(c.club_name, c.club_description) AGAINST (? IN BOOLEAN MODE)";
+    
+    private static final String EVENT_HITS =
+            "SELECT 'EVENT' AS kind, e.event_id AS id, e.event_name AS title, " +
+            "LEFT(e.description, " + SNIPPET_LENGTH + ") AS snippet, c.club_name, e.event_date AS hit_date, " +
+            "MATCH(e.event_name, e.description) AGAINST (? IN BOOLEAN MODE) AS relevance " +
+            "FROM Events e LEFT JOIN Clubs c ON c.club_id = e.club_id " +
+            "WHERE MATCH(e.event_name, e.description) AGAINST (? IN BOOLEAN MODE)";
+    
+    private static final String ANNOUNCEMENT_HITS =
+            "SELECT 'ANNOUNCEMENT' AS kind, a.announcement_id AS id, a.title AS title, " +
+            "LEFT(a.content, " + SNIPPET_LENGTH + ") AS snippet, c.club_name, a.announcement_date AS hit_date, " +
+            "MATCH(a.title, a.content) AGAINST (? IN BOOLEAN MODE) AS relevance " +
+            "FROM Announcements a LEFT JOIN Clubs c ON c.club_id = a.club_id " +
+            "WHERE MATCH(a.title, a.content) AGAINST (? IN BOOLEAN MODE)";
+    
+    // Ties are broken by ID so that a kind's ranking, and so every page, is stable
+    private static final String TOP = " ORDER BY relevance DESC, id LIMIT ?";
+    
+    /**
+     * Clubs, events and announcements interleaved by their rank within their kind.
+     * A page at offset needs each kind's first offset + limit hits, so deep pages
+     * cost more than the first.
+     */
+    public List<SearchHit> searchAll(String query, int offset, int limit) {
+        List<SearchHit> page = new ArrayList<>();
+        int needed = Math.max(0, offset) + limit;
+        if (limit <= 0) {
+            return page;
+        }
+        List<List<SearchHit>> kinds = new ArrayList<>(3);
+        kinds.add(search(CLUB_HITS + TOP, query, needed, "Error searching club descriptions"));
+        kinds.add(search(EVENT_HITS + TOP, query, needed, "Error searching event descriptions"));
+        kinds.add(search(ANNOUNCEMENT_HITS + TOP, query, needed, "Error searching announcements"));
+        int position = 0;
+        for (int rank = 0; position < needed; rank++) {
+            boolean any = false;
+            for (List<SearchHit> hits : kinds) {
+                if (rank < hits.size() && position < needed) {
+                    if (position++ >= offset) {
+                        page.add(hits.get(rank));
+                    }
+                    any = true;
+                }
+            }
+            if (!any) {
+                break;
+            }
+        }
+        return page;
+    }
+    
+    /**
+     * Turns free text into a boolean-mode query in which every word is required
+     * and matches as a prefix. Operator characters typed by the user are dropped
+     * with the rest of the punctuation, so they cannot change the query's meaning.
+     */
+    static String toBooleanQuery(String query) {
+        StringBuilder booleanQuery = new StringBuilder();
+        for (String term : InvertedIndex.tokenize(query)) {
+            if (booleanQuery.length() > 0) {
+                booleanQuery.append(' ');
+            }
+            booleanQuery.append('+').append(term).append('*');
+        }
+        return booleanQuery.toString();
+    }
+    
+    private List<SearchHit> search(String sql, String query, int limit, String errorMessage) {
+        List<SearchHit> hits = new ArrayList<>();
+        String booleanQuery = toBooleanQuery(query);
+        if (booleanQuery.isEmpty() || limit <= 0) {
+            return hits;
+        }
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            // The query is used twice: once for the score and once to filter
+            stmt.setString(1, booleanQuery);
+            stmt.setString(2, booleanQuery);
+            stmt.setInt(3, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    hits.add(mapHit(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException(errorMessage + ": " + query, e);
+        }
+        return hits;
+    }
+    
+    private SearchHit mapHit(ResultSet rs) throws SQLException {
+        return new SearchHit(
+                SearchHit.Kind.valueOf(rs.getString("kind")),
+                rs.getInt("id"),
+                rs.getString("title"),
+                rs.getString("snippet"),
+                rs.getString("club_name"),
+                rs.getDate("hit_date"),
+                rs.getDouble("relevance"));
+    }
+}
@@ -0,0 +1,104 @@
+package service;
+
+import db.DBConnection;
+import exception.DatabaseException;
+import java.sql.*;
+import model.Club;
+import model.Event;
+import model.FeedbackSummary;
+import model.Member;
+import model.StatsSnapshot;
+
+/**
+ * Dashboard statistics computed with COUNT(*) and single-row "latest" queries
+ * instead of loading every entity.
+ */
+public class StatsService {
+    
+    private final FeedbackService feedbackService;
+    
+    private static final String COUNTS_QUERY =
+            "SELECT (SELECT COUNT(*) FROM Clubs) AS club_count, " +
+            "(SELECT COUNT(*) FROM ClubMembers) AS member_count, " +
+            "(SELECT COUNT(*) FROM Events) AS event_count";
+    
+    public StatsService() {
+        this(null);
+    }
+    
+    /**
+     * Includes the overall rating from the feedback service's in-memory totals
+     */
+    public StatsService(FeedbackService feedbackService) {
+        this.feedbackService = feedbackService;
+    }
+    
+    public StatsSnapshot getSnapshot() {
+        try (Connection conn = DBConnection.getConnection()) {
+            int clubCount = 0;
+            int memberCount = 0;
+            int eventCount = 0;
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(COUNTS_QUERY)) {
+                if (rs.next()) {
+                    clubCount = rs.getInt("club_count");
+                    memberCount = rs.getInt("member_count");
+                    eventCount = rs.getInt("event_count");
+                }
+            }
+            FeedbackSummary feedback = feedbackService != null ? feedbackService.getOverallSummary() : null;
+            return new StatsSnapshot(clubCount, memberCount, eventCount,
+                    findLatestClub(conn), findLatestMember(conn), findLatestEvent(conn), feedback);
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading statistics", e);
+        }
+    }
+    
+    private Club findLatestClub(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM Clubs ORDER BY club_id DESC LIMIT 1")) {
+            if (rs.next()) {
+                Club club = new Club();
+                club.setClubId(rs.getInt("club_id"));
+                club.setClubName(rs.getString("club_name"));
+                club.setClubDescription(rs.getString("club_description"));
+                return club;
+            }
+            return null;
+        }
+    }
+    
+    private Member findLatestMember(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM ClubMembers ORDER BY member_id DESC LIMIT 1")) {
+            if (rs.next()) {
+                Member member = new Member();
+                member.setMemberId(rs.getInt("member_id"));
+                member.setMemberName(rs.getString("member_name"));
+                member.setEmail(rs.getString("email"));
+                member.setJoinDate(rs.getDate("join_date"));
+                member.setClubId(rs.getInt("club_id"));
+                member.setPhone(rs.getString("phone"));
+                return member;
+            }
+            return null;
+        }
+    }
+    
+    private Event findLatestEvent(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM Events ORDER BY event_id DESC LIMIT 1")) {
+            if (rs.next()) {
+                Event event = new Event();
+                event.setEventId(rs.getInt("event_id"));
+                event.setEventName(rs.getString("event_name"));
+                event.setDescription(rs.getString("description"));
+                event.setClubId(rs.getInt("club_id"));
+                event.setEventDate(rs.getDate("event_date"));
+                event.setVenueId(rs.getInt("venue_id"));
+                return event;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory booking calendar of every venue, keyed by day. Events last one day,
+ * so a venue is double-booked when two of its events share an event_date.
+ *
+ * Each venue keeps its booked days in a TreeMap and also the runs of consecutive
+ * booked days, so "is venue V free on D" and "next free day for V from D" are
+ * both O(log n). Days are stored as epoch days in the JVM's time zone, the same
+ * way java.sql.Date maps DATE columns.
+ *
+ * Thread-safe; callers that check and then book lock the schedule around both.
+ */
+public class VenueSchedule {
+
+    private final Map<Integer, VenueCalendar> venues = new HashMap<>();
+    // Where each booked event currently is, so a moved event frees its old day
+    private final Map<Integer, Booking> bookings = new HashMap<>();
+
+    /**
+     * Records the event at the venue on the date, moving any earlier booking of the
+     * same event. Events without a venue or date are ignored.
+     */
+    public synchronized void book(int eventId, int venueId, Date date) {
+        release(eventId);
+        if (venueId <= 0 || date == null) {
+            return;
+        }
+        long day = toDay(date);
+        venues.computeIfAbsent(venueId, v -> new VenueCalendar()).add(day, eventId);
+        bookings.put(eventId, new Booking(venueId, day));
+    }
+
+    public synchronized void release(int eventId) {
+        Booking booking = bookings.remove(eventId);
+        if (booking == null) {
+            return;
+        }
+        VenueCalendar calendar = venues.get(booking.venueId);
+        calendar.remove(booking.day, eventId);
+        if (calendar.isEmpty()) {
+            venues.remove(booking.venueId);
+        }
+    }
+
+    public synchronized void clear() {
+        venues.clear();
+        bookings.clear();
+    }
+
+    /**
+     * ID of an event other than ignoreEventId booked at the venue on the date, or 0 if there is none
+     */
+    public synchronized int findConflict(int venueId, Date date, int ignoreEventId) {
+        VenueCalendar calendar = venues.get(venueId);
+        if (calendar == null || date == null) {
+            return 0;
+        }
+        List<Integer> events = calendar.days.get(toDay(date));
+        if (events != null) {
+            for (int eventId : events) {
+                if (eventId != ignoreEventId) {
+                    return eventId;
+                }
+            }
+        }
+        return 0;
+    }
+
+    public synchronized boolean isFree(int venueId, Date date) {
+        return findConflict(venueId, date, 0) == 0;
+    }
+
+    /**
+     * First day on or after from with no event at the venue
+     */
+    public synchronized Date nextFreeDate(int venueId, Date from) {
+        long day = toDay(from);
+        VenueCalendar calendar = venues.get(venueId);
+        if (calendar != null) {
+            Map.Entry<Long, Long> run = calendar.runs.floorEntry(day);
+            if (run != null && run.getValue() >= day) {
+                day = run.getValue() + 1;
+            }
+        }
+        return java.sql.Date.valueOf(LocalDate.ofEpochDay(day));
+    }
+
+    private static long toDay(Date date) {
+        return new java.sql.Date(date.getTime()).toLocalDate().toEpochDay();
+    }
+
+    private static final class Booking {
+        private final int venueId;
+        private final long day;
+
+        private Booking(int venueId, long day) {
+            this.venueId = venueId;
+            this.day = day;
+        }
+    }
+
+    private static final class VenueCalendar {
+        // Booked day -> events on it (more than one only for clashes already in the data)
+        private final TreeMap<Long, List<Integer>> days = new TreeMap<>();
+        // First day of each run of consecutive booked days -> last day of the run
+        private final TreeMap<Long, Long> runs = new TreeMap<>();
+
+        private void add(long day, int eventId) {
+            List<Integer> events = days.get(day);
+            if (events != null) {
+                events.add(eventId);
+                return;
+            }
+            events = new ArrayList<>(1);
+            events.add(eventId);
+            days.put(day, events);
+            long start = day;
+            long end = day;
+            Map.Entry<Long, Long> before = runs.floorEntry(day - 1);
+            if (before != null && before.getValue() == day - 1) {
+                start = before.getKey();
+            }
+            Long after = runs.remove(day + 1);
+            if (after != null) {
+                end = after;
+            }
+            runs.put(start, end);
+        }
+
+        private void remove(long day, int eventId) {
+            List<Integer> events = days.get(day);
+            if (events == null || !events.remove((Integer) eventId) || !events.isEmpty()) {
+                return;
+            }
+            days.remove(day);
+            Map.Entry<Long, Long> run = runs.floorEntry(day);
+            runs.remove(run.getKey());
+            if (run.getKey() < day) {
+                runs.put(run.getKey(), day - 1);
+            }
+            if (run.getValue() > day) {
+                runs.put(day + 1, run.getValue());
+            }
+        }
+
+        private boolean isEmpty() {
+            return days.isEmpty();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package service;
 
 import db.DBConnection;
+import db.QueryStream;
 import exception.DatabaseException;
 import exception.ValidationException;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 import model.Venue;
 
 public class VenueService implements CrudService<Venue, Integer> {
@@ -51,6 +54,65 @@ public class VenueService implements CrudService<Venue, Integer> {
         return venues;
     }
     
+    @Override
+    public List<Venue> findPage(Integer afterId, int limit) {
+        List<Venue> venues = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT * FROM Venues WHERE venue_id > ? ORDER BY venue_id LIMIT ?")) {
+            
+            stmt.setInt(1, afterId != null ? afterId : Integer.MIN_VALUE);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    venues.add(mapVenue(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DatabaseException("Error fetching venue page after ID: " + afterId, e);
+        }
+        return venues;
+    }
+    
+    @Override
+    public Stream<Venue> streamAll() {
+        return QueryStream.of("SELECT * FROM Venues ORDER BY venue_id", this::mapVenue, "Error streaming venues");
+    }
+    
+    @Override
+    public BatchResult saveAll(Collection<Venue> venues) {
+        return BatchWriter.execute(
+                "INSERT INTO Venues (venue_id, venue_name, location) VALUES (?, ?, ?)",
+                venues, (stmt, venue) -> {
+                    if (!venue.isValid()) {
+                        throw new ValidationException("Invalid venue data");
+                    }
+                    stmt.setInt(1, venue.getVenueId());
+                    stmt.setString(2, venue.getVenueName());
+                    stmt.setString(3, venue.getLocation());
+                }, Venue::getVenueId);
+    }
+    
+    @Override
+    public BatchResult updateAll(Collection<Venue> venues) {
+        return BatchWriter.execute(
+                "UPDATE Venues SET venue_name = ?, location = ? WHERE venue_id = ?",
+                venues, (stmt, venue) -> {
+                    if (!venue.isValid()) {
+                        throw new ValidationException("Invalid venue data");
+                    }
+                    stmt.setString(1, venue.getVenueName());
+                    stmt.setString(2, venue.getLocation());
+                    stmt.setInt(3, venue.getVenueId());
+                }, Venue::getVenueId);
+    }
+    
+    @Override
+    public BatchResult deleteAll(Collection<Integer> ids) {
+        return BatchWriter.execute("DELETE FROM Venues WHERE venue_id = ?",
+                ids, (stmt, id) -> stmt.setInt(1, id), id -> id);
+    }
+    
     @Override
     public Venue save(Venue venue) {
         if (!venue.isValid()) {
@@ -111,4 +173,12 @@ public class VenueService implements CrudService<Venue, Integer> {
             throw new DatabaseException("Error deleting venue", e);
         }
     }
+    
+    private Venue mapVenue(ResultSet rs) throws SQLException {
+        Venue venue = new Venue();
+        venue.setVenueId(rs.getInt("venue_id"));
+        venue.setVenueName(rs.getString("venue_name"));
+        venue.setLocation(rs.getString("location"));
+        return venue;
+    }
 }
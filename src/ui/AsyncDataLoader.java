@@ -0,0 +1,128 @@
+package ui;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/**
+ * Runs service calls off the Event Dispatch Thread and publishes results back on it.
+ * Requests are grouped by key: submitting a new request for a key cancels the one
+ * still in flight, and a superseded result is never delivered to the UI.
+ */
+public class AsyncDataLoader {
+
+    private final ExecutorService executor = createExecutor();
+    private final Map<String, Request<?>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger writeSequence = new AtomicInteger();
+    private Consumer<Boolean> busyListener = busy -> { };
+
+    /**
+     * Called on the EDT with true when the first request starts and false when the last one ends
+     */
+    public void setBusyListener(Consumer<Boolean> busyListener) {
+        this.busyListener = busyListener;
+    }
+
+    public <T> void load(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Exception> onError) {
+        if (running.getAndIncrement() == 0) {
+            busyListener.accept(true);
+        }
+        Request<T> request = new Request<>(key, work, onSuccess, onError);
+        Request<?> previous = inFlight.put(key, request);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        executor.execute(request);
+    }
+
+    /**
+     * Cancels the request in flight for key, if any; its result is never delivered
+     */
+    public void cancel(String key) {
+        Request<?> request = inFlight.get(key);
+        if (request != null) {
+            request.cancel(true);
+        }
+    }
+
+    /**
+     * Runs a write (save/delete) in the background. Writes are never cancelled by a
+     * later request, so each one gets its own key.
+     */
+    public void run(Runnable work, Runnable onSuccess, Consumer<Exception> onError) {
+        submit(() -> {
+            work.run();
+            return null;
+        }, ignored -> onSuccess.run(), onError);
+    }
+
+    public <T> void submit(Callable<T> work, Consumer<T> onSuccess, Consumer<Exception> onError) {
+        load("write-" + writeSequence.incrementAndGet(), work, onSuccess, onError);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ExecutorService createExecutor() {
+        // Virtual threads are used when the running JDK provides them (Java 21+)
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "DataLoader-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * done() runs exactly once, whether the task completed, failed or was cancelled
+     * before it started, so the busy count always balances.
+     */
+    private final class Request<T> extends FutureTask<T> {
+        private final String key;
+        private final Consumer<T> onSuccess;
+        private final Consumer<Exception> onError;
+
+        private Request(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Exception> onError) {
+            super(work);
+            this.key = key;
+            this.onSuccess = onSuccess;
+            this.onError = onError;
+        }
+
+        @Override
+        protected void done() {
+            SwingUtilities.invokeLater(() -> {
+                boolean current = inFlight.remove(key, this);
+                if (running.decrementAndGet() == 0) {
+                    busyListener.accept(false);
+                }
+                if (!current || isCancelled()) {
+                    return;
+                }
+                try {
+                    onSuccess.accept(get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    onError.accept(cause instanceof Exception ? (Exception) cause : e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package ui;
+
+import java.awt.*;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.swing.*;
+import model.BudgetSummary;
+import service.BudgetService;
+import ui.components.BudgetSummaryTableModel;
+
+/**
+ * Finance view: requested, approved and sponsored money per club, and per event
+ * for the selected club. The club totals come from BudgetService's in-memory
+ * summary, so once it is built the tab opens without a query. Must be used on the EDT.
+ */
+public class BudgetPanel extends JPanel {
+
+    private final BudgetService budgetService;
+    private final AsyncDataLoader loader;
+    private final Consumer<Exception> onError;
+
+    private final BudgetSummaryTableModel clubsModel = new BudgetSummaryTableModel("Club");
+    private final BudgetSummaryTableModel eventsModel = new BudgetSummaryTableModel("Event");
+    private final JTable clubsTable = createTable(clubsModel);
+    private final JLabel totalLabel = new JLabel(" ");
+    private final JLabel eventsTitle = new JLabel("Select a club to see its events");
+
+    public BudgetPanel(BudgetService budgetService, AsyncDataLoader loader, Color accentColor,
+                       Consumer<Exception> onError) {
+        super(new BorderLayout(10, 10));
+        this.budgetService = budgetService;
+        this.loader = loader;
+        this.onError = onError;
+        setOpaque(false);
+
+        JLabel titleLabel = new JLabel("Budget");
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        titleLabel.setForeground(accentColor);
+        totalLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        totalLabel.setForeground(Color.GRAY);
+        JPanel titlePanel = new JPanel(new BorderLayout());
+        titlePanel.setOpaque(false);
+        titlePanel.add(titleLabel, BorderLayout.NORTH);
+        titlePanel.add(totalLabel, BorderLayout.SOUTH);
+
+        eventsTitle.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        JPanel eventsPanel = new JPanel(new BorderLayout(5, 5));
+        eventsPanel.setOpaque(false);
+        eventsPanel.add(eventsTitle, BorderLayout.NORTH);
+        eventsPanel.add(new JScrollPane(createTable(eventsModel)), BorderLayout.CENTER);
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(clubsTable), eventsPanel);
+        splitPane.setResizeWeight(0.6);
+        splitPane.setBorder(BorderFactory.createEmptyBorder());
+
+        clubsTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                loadEvents();
+            }
+        });
+
+        add(titlePanel, BorderLayout.NORTH);
+        add(splitPane, BorderLayout.CENTER);
+    }
+
+    /**
+     * Shows the club totals, querying only if the summary is not built yet
+     */
+    public void reload() {
+        if (budgetService.isBuilt()) {
+            loader.cancel("budget");
+            showClubs(budgetService.getClubSummaries());
+            return;
+        }
+        loader.load("budget", budgetService::getClubSummaries, this::showClubs, onError);
+    }
+
+    private void showClubs(List<BudgetSummary> clubs) {
+        int selectedClubId = selectedClubId();
+        clubsModel.setRows(clubs);
+        BigDecimal requested = BigDecimal.ZERO;
+        BigDecimal approved = BigDecimal.ZERO;
+        BigDecimal sponsored = BigDecimal.ZERO;
+        for (BudgetSummary club : clubs) {
+            requested = requested.add(club.getRequested());
+            approved = approved.add(club.getApproved());
+            sponsored = sponsored.add(club.getSponsored());
+        }
+        totalLabel.setText(String.format("All clubs: requested %,.2f, approved %,.2f, sponsored %,.2f",
+                requested, approved, sponsored));
+        int row = selectedClubId != 0 ? clubsModel.findRowById(selectedClubId) : -1;
+        if (row != -1) {
+            clubsTable.setRowSelectionInterval(row, row);
+        } else {
+            eventsModel.setRows(new ArrayList<>());
+            eventsTitle.setText("Select a club to see its events");
+        }
+    }
+
+    private void loadEvents() {
+        int clubId = selectedClubId();
+        if (clubId == 0) {
+            return;
+        }
+        String clubName = clubsModel.findById(clubId).getName();
+        loader.load("budget-events", () -> budgetService.findEventSummaries(clubId), events -> {
+            eventsModel.setRows(events);
+            eventsTitle.setText("Events of " + clubName);
+        }, onError);
+    }
+
+    private int selectedClubId() {
+        int row = clubsTable.getSelectedRow();
+        return row != -1 ? clubsModel.getRow(row).getId() : 0;
+    }
+
+    private static JTable createTable(BudgetSummaryTableModel model) {
+        JTable table = new JTable(model);
+        table.setRowHeight(32);
+        table.setShowGrid(false);
+        table.setIntercellSpacing(new Dimension(0, 0));
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setSelectionBackground(new Color(240, 240, 255));
+        table.getTableHeader().setFont(new Font("Segoe UI", Font.BOLD, 14));
+        table.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        return table;
+    }
+}
@@ -0,0 +1,224 @@
+package ui;
+
+import java.awt.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.swing.*;
+import model.EventView;
+import service.EventCalendarCache;
+
+/**
+ * Month and week calendar of events. Only the months on screen are fetched, through
+ * EventCalendarCache; once they are shown the neighbouring months are prefetched in
+ * the background so moving forward or back one month is drawn straight from memory.
+ * Must be used on the EDT.
+ */
+public class CalendarPanel extends JPanel {
+
+    // Event names listed in a month cell before the rest are summarised as "+n more"
+    private static final int MONTH_CELL_EVENTS = 3;
+    private static final DateTimeFormatter MONTH_TITLE = DateTimeFormatter.ofPattern("MMMM yyyy");
+    private static final DateTimeFormatter WEEK_TITLE = DateTimeFormatter.ofPattern("d MMM yyyy");
+
+    private final EventCalendarCache cache;
+    private final AsyncDataLoader loader;
+    private final Consumer<Exception> onError;
+    private final Color accentColor;
+
+    private final JLabel titleLabel = new JLabel();
+    private final JComboBox<String> viewComboBox = new JComboBox<>(new String[]{"Month", "Week"});
+    private final JPanel grid = new JPanel();
+    private final DayCell[] cells = new DayCell[42];
+
+    private LocalDate anchor = LocalDate.now();
+
+    public CalendarPanel(EventCalendarCache cache, AsyncDataLoader loader, Color accentColor,
+                         Consumer<Exception> onError) {
+        super(new BorderLayout(10, 10));
+        this.cache = cache;
+        this.loader = loader;
+        this.accentColor = accentColor;
+        this.onError = onError;
+        setOpaque(false);
+
+        JButton previousButton = new JButton("<");
+        previousButton.addActionListener(e -> move(-1));
+        JButton todayButton = new JButton("Today");
+        todayButton.addActionListener(e -> {
+            anchor = LocalDate.now();
+            reload();
+        });
+        JButton nextButton = new JButton(">");
+        nextButton.addActionListener(e -> move(1));
+        viewComboBox.addActionListener(e -> reload());
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        titleLabel.setForeground(accentColor);
+        JPanel navigationPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        navigationPanel.setOpaque(false);
+        navigationPanel.add(previousButton);
+        navigationPanel.add(todayButton);
+        navigationPanel.add(nextButton);
+        navigationPanel.add(titleLabel);
+        JPanel headerPanel = new JPanel(new BorderLayout());
+        headerPanel.setOpaque(false);
+        headerPanel.add(navigationPanel, BorderLayout.WEST);
+        headerPanel.add(viewComboBox, BorderLayout.EAST);
+
+        JPanel weekdayPanel = new JPanel(new GridLayout(1, 7));
+        weekdayPanel.setOpaque(false);
+        for (int i = 0; i < 7; i++) {
+            JLabel dayName = new JLabel(DayOfWeek.MONDAY.plus(i).getDisplayName(TextStyle.SHORT, Locale.getDefault()),
+                    SwingConstants.CENTER);
+            dayName.setFont(new Font("Segoe UI", Font.BOLD, 13));
+            weekdayPanel.add(dayName);
+        }
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new DayCell();
+        }
+        grid.setOpaque(false);
+        JPanel calendarPanel = new JPanel(new BorderLayout());
+        calendarPanel.setOpaque(false);
+        calendarPanel.add(weekdayPanel, BorderLayout.NORTH);
+        calendarPanel.add(grid, BorderLayout.CENTER);
+
+        add(headerPanel, BorderLayout.NORTH);
+        add(calendarPanel, BorderLayout.CENTER);
+    }
+
+    /**
+     * Redraws the visible period, fetching it if it is not cached
+     */
+    public void reload() {
+        boolean weekView = isWeekView();
+        LocalDate first = weekView
+                ? anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : anchor.withDayOfMonth(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        int days = weekView ? 7 : cells.length;
+        LocalDate last = first.plusDays(days - 1);
+        YearMonth shownMonth = YearMonth.from(anchor);
+        // A month view shows only its own month's events; a week may span two months
+        YearMonth fromMonth = weekView ? YearMonth.from(first) : shownMonth;
+        YearMonth toMonth = weekView ? YearMonth.from(last) : shownMonth;
+        titleLabel.setText(weekView
+                ? first.format(WEEK_TITLE) + " - " + last.format(WEEK_TITLE)
+                : shownMonth.format(MONTH_TITLE));
+
+        if (cache.isCached(fromMonth) && cache.isCached(toMonth)) {
+            // A slower load for the period shown before must not overwrite this one
+            loader.cancel("calendar");
+            render(first, days, shownMonth, weekView, collect(fromMonth, toMonth));
+            prefetchAround(shownMonth);
+            return;
+        }
+        loader.load("calendar", () -> collect(fromMonth, toMonth), events -> {
+            render(first, days, shownMonth, weekView, events);
+            prefetchAround(shownMonth);
+        }, onError);
+    }
+
+    private void move(int steps) {
+        anchor = isWeekView() ? anchor.plusWeeks(steps) : anchor.plusMonths(steps);
+        reload();
+    }
+
+    private boolean isWeekView() {
+        return viewComboBox.getSelectedIndex() == 1;
+    }
+
+    private Map<LocalDate, List<EventView>> collect(YearMonth fromMonth, YearMonth toMonth) {
+        Map<LocalDate, List<EventView>> events = new HashMap<>(cache.getMonth(fromMonth));
+        if (!toMonth.equals(fromMonth)) {
+            events.putAll(cache.getMonth(toMonth));
+        }
+        return events;
+    }
+
+    private void prefetchAround(YearMonth month) {
+        for (YearMonth neighbour : new YearMonth[]{month.minusMonths(1), month.plusMonths(1)}) {
+            if (!cache.isCached(neighbour)) {
+                // Failures are ignored here; they are reported if the month is opened
+                loader.load("calendar-prefetch-" + neighbour, () -> cache.getMonth(neighbour),
+                        loaded -> { }, ex -> { });
+            }
+        }
+    }
+
+    private void render(LocalDate first, int days, YearMonth shownMonth, boolean weekView,
+                        Map<LocalDate, List<EventView>> events) {
+        grid.removeAll();
+        grid.setLayout(new GridLayout(weekView ? 1 : 6, 7, 4, 4));
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < days; i++) {
+            LocalDate day = first.plusDays(i);
+            boolean inPeriod = weekView || YearMonth.from(day).equals(shownMonth);
+            List<EventView> dayEvents = inPeriod
+                    ? events.getOrDefault(day, Collections.emptyList())
+                    : Collections.emptyList();
+            cells[i].display(day, inPeriod, day.equals(today), dayEvents, weekView ? Integer.MAX_VALUE : MONTH_CELL_EVENTS);
+            grid.add(cells[i]);
+        }
+        grid.revalidate();
+        grid.repaint();
+    }
+
+    private final class DayCell extends JPanel {
+        private final JLabel dayLabel = new JLabel();
+        private final JLabel eventsLabel = new JLabel();
+
+        private DayCell() {
+            super(new BorderLayout(2, 2));
+            setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createLineBorder(new Color(230, 230, 230), 1),
+                    BorderFactory.createEmptyBorder(4, 6, 4, 6)
+            ));
+            dayLabel.setFont(new Font("Segoe UI", Font.BOLD, 12));
+            eventsLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            eventsLabel.setVerticalAlignment(SwingConstants.TOP);
+            add(dayLabel, BorderLayout.NORTH);
+            add(eventsLabel, BorderLayout.CENTER);
+        }
+
+        private void display(LocalDate day, boolean inPeriod, boolean today, List<EventView> events, int maxListed) {
+            dayLabel.setText(String.valueOf(day.getDayOfMonth()));
+            dayLabel.setForeground(today ? accentColor : inPeriod ? Color.DARK_GRAY : Color.LIGHT_GRAY);
+            setBackground(inPeriod ? Color.WHITE : new Color(248, 248, 250));
+            if (events.isEmpty()) {
+                eventsLabel.setText("");
+                setToolTipText(null);
+                return;
+            }
+            StringBuilder text = new StringBuilder("<html>");
+            StringBuilder tooltip = new StringBuilder("<html>");
+            for (int i = 0; i < events.size(); i++) {
+                String line = escape(events.get(i).getEventName()) + venueSuffix(events.get(i));
+                if (i < maxListed) {
+                    text.append(line).append("<br>");
+                }
+                tooltip.append(line).append("<br>");
+            }
+            if (events.size() > maxListed) {
+                text.append("<i>+").append(events.size() - maxListed).append(" more</i>");
+            }
+            eventsLabel.setText(text.toString());
+            setToolTipText(tooltip.toString());
+        }
+
+        private String venueSuffix(EventView event) {
+            return event.getVenueName() != null ? " <font color='gray'>@ " + escape(event.getVenueName()) + "</font>" : "";
+        }
+
+        private String escape(String text) {
+            return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+        }
+    }
+}
@@ -1,39 +1,119 @@
 package ui;
 
+import exception.BookingConflictException;
 import exception.ServiceInitializationException;
 import java.awt.*;
 import java.awt.event.*;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.*;
+import model.Announcement;
 import model.Club;
+import model.ClubView;
 import model.Event;
+import model.EventView;
 import model.Member;
+import model.MemberView;
+import model.SearchHit;
 import model.Venue;
+import service.AnnouncementService;
+import service.BudgetService;
+import service.CachingCrudService;
 import service.ClubService;
+import service.CrudService;
+import service.CsvImportService;
+import service.EventCalendarCache;
+import service.EventFilter;
 import service.EventService;
+import service.ExportService;
+import service.FeedbackService;
+import service.ImportReport;
 import service.MemberService;
+import service.SearchIndexService;
+import service.SearchResult;
+import service.SearchService;
+import service.StatsService;
 import service.VenueService;
 import ui.components.StatsComponent;
+import utils.IntIntMap;
 import utils.ValidationUtils;
 import ui.components.StatsDashboardPanel;
+import ui.components.AnnouncementTableModel;
 import ui.components.BaseDashboardPanel;
+import ui.components.ClubTableModel;
+import ui.components.EventTableModel;
+import ui.components.MemberTableModel;
+import ui.components.SearchHitTableModel;
 
 public class MainFrame extends JFrame {
     
-    private ClubService clubService;
+    private CrudService<Club, Integer> clubService;
     private MemberService memberService;
     private EventService eventService;
-    private VenueService venueService;
+    private CrudService<Venue, Integer> venueService;
+    private StatsService statsService;
+    private CsvImportService importService;
+    private ExportService exportService;
+    private SearchIndexService searchIndex;
+    private SearchService fullTextSearch;
+    private FeedbackService feedbackService;
+    private BudgetService budgetService;
+    private AnnouncementService announcementService;
+    private EventCalendarCache calendarCache;
+    private CalendarPanel calendarPanel;
+    private BudgetPanel budgetPanel;
+    private JTextField searchField;
+    private JCheckBox fullTextBox;
+    private Timer searchDebounce;
+    private JPanel searchResultsPanel;
+    private JLabel searchResultsLabel;
+    private JTable searchResultsTable;
+    private SearchHitTableModel fullTextModel;
+    private TablePager<SearchHit> fullTextPager;
+    // Last result per tab, narrowed when the next search term extends it
+    private SearchResult<Club> lastClubSearch;
+    private SearchResult<MemberView> lastMemberSearch;
+    private SearchResult<EventView> lastEventSearch;
+    private AsyncDataLoader dataLoader;
     
     private JTabbedPane tabbedPane;
     private JPanel clubsPanel;
     private JPanel membersPanel;
     private JPanel eventsPanel;
     private JLabel statusLabel;
+    private JProgressBar loadingBar;
+    private StatsDashboardPanel statsDashboard;
+    
+    // Tab tables are built once; saves and deletes patch individual rows
+    private ClubTableModel clubsModel;
+    private MemberTableModel membersModel;
+    private EventTableModel eventsModel;
+    private JComboBox<ComboItem> clubFilterComboBox;
+    
+    // Rows are fetched a page at a time as the tables are scrolled
+    private static final int PAGE_SIZE = 100;
+    private static final int ENTITY_CACHE_SIZE = 1000;
+    private static final long ENTITY_CACHE_TTL_MS = 5 * 60 * 1000L;
+    // Pause in typing before the header search runs; server-side full text waits longer
+    private static final int SEARCH_DEBOUNCE_MS = 150;
+    private static final int FULL_TEXT_DEBOUNCE_MS = 300;
+    // Full-text hits fetched per page as the results are scrolled
+    private static final int FULL_TEXT_PAGE_SIZE = 100;
+    private TablePager<ClubView> clubsPager;
+    private TablePager<MemberView> membersPager;
+    private TablePager<EventView> eventsPager;
+    // Filter applied to the Events grid, or null when it lists every event
+    private EventFilter eventsFilter;
     
     private final Color PRIMARY_COLOR = new Color(0, 121, 107);
     private final Color ACCENT_COLOR = new Color(0, 150, 136);
@@ -45,6 +125,14 @@ public class MainFrame extends JFrame {
     public MainFrame() {
         try {
             initializeServices();
+            loadingBar = new JProgressBar();
+            loadingBar.setIndeterminate(true);
+            loadingBar.setPreferredSize(new Dimension(120, 14));
+            loadingBar.setVisible(false);
+            dataLoader.setBusyListener(busy -> {
+                loadingBar.setVisible(busy);
+                setCursor(busy ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
+            });
             setTitle("Event Management System");
             setSize(1100, 700);
             setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -61,6 +149,7 @@ public class MainFrame extends JFrame {
             } catch (Exception e) {
                 e.printStackTrace();
             }
+            setJMenuBar(createMenuBar());
             JPanel mainPanel = new JPanel(new BorderLayout());
             mainPanel.setBackground(BACKGROUND_COLOR);
             JPanel headerPanel = createHeaderPanel();
@@ -76,15 +165,22 @@ public class MainFrame extends JFrame {
             tabbedPane.addTab("Clubs", null, createScrollPane(clubsPanel), "Manage Clubs");
             tabbedPane.addTab("Members", null, createScrollPane(membersPanel), "Manage Members");
             tabbedPane.addTab("Events", null, createScrollPane(eventsPanel), "Manage Events");
-            BaseDashboardPanel statsDashboard = new StatsDashboardPanel(
+            calendarPanel = new CalendarPanel(calendarCache, dataLoader, PRIMARY_COLOR,
+                    ex -> showError("Error loading calendar", ex));
+            calendarPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+            tabbedPane.addTab("Calendar", null, calendarPanel, "Events by month or week");
+            budgetPanel = new BudgetPanel(budgetService, dataLoader, PRIMARY_COLOR,
+                    ex -> showError("Error loading budgets", ex));
+            budgetPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+            tabbedPane.addTab("Budget", null, budgetPanel, "Requested, approved and sponsored money");
+            statsDashboard = new StatsDashboardPanel(
                     "System Statistics", 
                     BACKGROUND_COLOR,
                     PRIMARY_COLOR,
-                    clubService, 
-                    memberService, 
-                    eventService);
+                    statsService);
             statsDashboard.setPreferredSize(new Dimension(220, 0));
             contentPanel.add(tabbedPane, BorderLayout.CENTER);
+            contentPanel.add(createSearchResultsPanel(), BorderLayout.SOUTH);
             contentPanel.add(statsDashboard, BorderLayout.EAST);
             mainPanel.add(contentPanel, BorderLayout.CENTER);
             JPanel statusBar = new JPanel(new BorderLayout());
@@ -99,14 +195,35 @@ public class MainFrame extends JFrame {
             JLabel versionLabel = new JLabel("v1.0");
             versionLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
             versionLabel.setForeground(Color.GRAY);
-            statusBar.add(versionLabel, BorderLayout.EAST);
+            JPanel statusRight = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+            statusRight.setOpaque(false);
+            statusRight.add(loadingBar);
+            statusRight.add(versionLabel);
+            statusBar.add(statusRight, BorderLayout.EAST);
             mainPanel.add(statusBar, BorderLayout.SOUTH);
             setContentPane(mainPanel);
+            tabbedPane.addChangeListener(e -> refreshStatsDashboard());
+            // The calendar is only fetched while it is on screen
+            tabbedPane.addChangeListener(e -> {
+                if (tabbedPane.getSelectedComponent() == calendarPanel) {
+                    calendarPanel.reload();
+                } else if (tabbedPane.getSelectedComponent() == budgetPanel) {
+                    budgetPanel.reload();
+                }
+            });
+            // Live results follow the selected tab
             tabbedPane.addChangeListener(e -> {
-                if (statsDashboard instanceof StatsDashboardPanel) {
-                    ((StatsDashboardPanel) statsDashboard).refreshData();
+                if (searchResultsPanel.isVisible() && !fullTextBox.isSelected()) {
+                    runSearch();
                 }
             });
+            // Build the search indexes in the background so the first keystroke doesn't wait
+            dataLoader.load("search-index", () -> {
+                searchIndex.preload();
+                return null;
+            }, ignored -> { }, ex -> statusLabel.setText("Search index will be built on first search"));
+            reconcileFeedback();
+            refreshStatsDashboard();
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
                     "Error initializing application: " + e.getMessage(),
@@ -117,10 +234,25 @@ public class MainFrame extends JFrame {
     
     private void initializeServices() {
         try {
-            clubService = new ClubService();
+            // Clubs and venues change rarely but back every combo box and dialog
+            clubService = new CachingCrudService<>(new ClubService(), Club::getClubId,
+                    c -> new Club(c.getClubId(), c.getClubName(), c.getClubDescription()),
+                    ENTITY_CACHE_SIZE, ENTITY_CACHE_TTL_MS);
             memberService = new MemberService();
             eventService = new EventService();
-            venueService = new VenueService();
+            venueService = new CachingCrudService<>(new VenueService(), Venue::getVenueId,
+                    v -> new Venue(v.getVenueId(), v.getVenueName(), v.getLocation()),
+                    ENTITY_CACHE_SIZE, ENTITY_CACHE_TTL_MS);
+            feedbackService = new FeedbackService();
+            budgetService = new BudgetService();
+            announcementService = new AnnouncementService();
+            statsService = new StatsService(feedbackService);
+            importService = new CsvImportService(clubService, venueService, memberService, eventService);
+            exportService = new ExportService(memberService, eventService);
+            searchIndex = new SearchIndexService(clubService, memberService, eventService);
+            fullTextSearch = new SearchService();
+            calendarCache = new EventCalendarCache(eventService);
+            dataLoader = new AsyncDataLoader();
         } catch (Exception e) {
             throw new ServiceInitializationException("Failed to initialize services: " + e.getMessage(), e);
         }
@@ -133,6 +265,85 @@ public class MainFrame extends JFrame {
         return scrollPane;
     }
     
+    private JMenuBar createMenuBar() {
+        JMenuBar menuBar = new JMenuBar();
+        JMenu fileMenu = new JMenu("File");
+        JMenu importMenu = new JMenu("Import CSV");
+        JMenuItem importClubs = new JMenuItem("Clubs...");
+        importClubs.addActionListener(e -> importCsv("Clubs", importService::importClubs));
+        JMenuItem importVenues = new JMenuItem("Venues...");
+        importVenues.addActionListener(e -> importCsv("Venues", importService::importVenues));
+        JMenuItem importMembers = new JMenuItem("Members...");
+        importMembers.addActionListener(e -> importCsv("Members", importService::importMembers));
+        JMenuItem importEvents = new JMenuItem("Events...");
+        importEvents.addActionListener(e -> importCsv("Events", importService::importEvents));
+        importMenu.add(importClubs);
+        importMenu.add(importVenues);
+        importMenu.add(importMembers);
+        importMenu.add(importEvents);
+        fileMenu.add(importMenu);
+        JMenu exportMenu = new JMenu("Export");
+        JMenuItem exportMembers = new JMenuItem("Members...");
+        exportMembers.addActionListener(e -> exportData("members", exportService::exportMembers));
+        JMenuItem exportEvents = new JMenuItem("Events...");
+        exportEvents.addActionListener(e -> exportData("events", exportService::exportEvents));
+        exportMenu.add(exportMembers);
+        exportMenu.add(exportEvents);
+        fileMenu.add(exportMenu);
+        fileMenu.addSeparator();
+        JMenuItem exitItem = new JMenuItem("Exit");
+        exitItem.addActionListener(e -> dispatchEvent(new WindowEvent(this, WindowEvent.WINDOW_CLOSING)));
+        fileMenu.add(exitItem);
+        menuBar.add(fileMenu);
+        return menuBar;
+    }
+    
+    private void importCsv(String entity, java.util.function.Function<java.nio.file.Path, ImportReport> importer) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Import " + entity + " from CSV");
+        chooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("CSV files", "csv"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        java.nio.file.Path file = chooser.getSelectedFile().toPath();
+        statusLabel.setText("Importing " + entity.toLowerCase() + " from " + file.getFileName() + "...");
+        dataLoader.submit(() -> importer.apply(file), report -> {
+            statusLabel.setText(report.toString());
+            StringBuilder message = new StringBuilder(report.toString());
+            if (report.getRejected() > 0) {
+                message.append("\n\nRejected lines were written to ").append(report.getRejectsFile());
+                for (String reject : report.getSampleRejects()) {
+                    message.append("\n").append(reject);
+                }
+            }
+            JOptionPane.showMessageDialog(this, message.toString(), "Import " + entity,
+                    report.getRejected() > 0 ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE);
+            refreshAllPanels();
+        }, ex -> showError("Error importing " + entity.toLowerCase(), ex));
+    }
+    
+    @FunctionalInterface
+    private interface Exporter {
+        long export(java.nio.file.Path file, ExportService.Format format, boolean gzip);
+    }
+    
+    private void exportData(String entity, Exporter exporter) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Export " + entity + " (.csv or .jsonl, add .gz to compress)");
+        chooser.setSelectedFile(new java.io.File(entity + ".csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        java.nio.file.Path file = chooser.getSelectedFile().toPath();
+        String fileName = file.getFileName().toString();
+        boolean gzip = fileName.toLowerCase().endsWith(".gz");
+        ExportService.Format format = ExportService.Format.fromFileName(fileName);
+        statusLabel.setText("Exporting " + entity + " to " + fileName + "...");
+        dataLoader.submit(() -> exporter.export(file, format, gzip),
+                rows -> statusLabel.setText("Exported " + rows + " " + entity + " to " + file),
+                ex -> showError("Error exporting " + entity, ex));
+    }
+    
     private JPanel createHeaderPanel() {
         JPanel headerPanel = new JPanel(new BorderLayout());
         headerPanel.setBackground(PRIMARY_COLOR);
@@ -142,11 +353,17 @@ public class MainFrame extends JFrame {
         titleLabel.setForeground(Color.WHITE);
         JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         searchPanel.setOpaque(false);
-        JTextField searchField = new JTextField(15);
+        searchField = new JTextField(15);
         searchField.setBorder(BorderFactory.createCompoundBorder(
                 BorderFactory.createLineBorder(new Color(255, 255, 255, 150), 1),
                 BorderFactory.createEmptyBorder(5, 10, 5, 10)
         ));
+        // Searches club and event descriptions and announcements on the server
+        fullTextBox = new JCheckBox("Full text");
+        fullTextBox.setOpaque(false);
+        fullTextBox.setForeground(Color.WHITE);
+        fullTextBox.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        fullTextBox.setToolTipText("Search club and event descriptions and announcements, ranked by relevance");
         JButton searchButton = new JButton("Search");
         searchButton.setFont(new Font("Segoe UI", Font.BOLD, 12));
         searchButton.setBorder(BorderFactory.createCompoundBorder(
@@ -157,21 +374,29 @@ public class MainFrame extends JFrame {
         searchButton.setBackground(new Color(0, 0, 0, 0));
         searchButton.setForeground(BUTTON_TEXT_COLOR);
         searchButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        searchButton.addActionListener(e -> {
-            String searchTerm = searchField.getText().trim().toLowerCase();
-            if (searchTerm.isEmpty()) {
-                JOptionPane.showMessageDialog(this, "Please enter a search term", "Search", JOptionPane.INFORMATION_MESSAGE);
-                return;
+        searchButton.addActionListener(e -> runSearch());
+        searchField.addActionListener(e -> runSearch());
+        // Every keystroke restarts the timer, so a search runs once typing pauses
+        searchDebounce = new Timer(SEARCH_DEBOUNCE_MS, e -> runSearch());
+        searchDebounce.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                scheduleSearch();
             }
-            int currentTab = tabbedPane.getSelectedIndex();
-            if (currentTab == 0) {
-                searchClubs(searchTerm);
-            } else if (currentTab == 1) {
-                searchMembers(searchTerm);
-            } else if (currentTab == 2) {
-                searchEvents(searchTerm);
+            
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                scheduleSearch();
+            }
+            
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                scheduleSearch();
             }
         });
+        fullTextBox.addActionListener(e -> scheduleSearch());
+        searchPanel.add(fullTextBox);
         searchPanel.add(searchField);
         searchPanel.add(searchButton);
         headerPanel.add(titleLabel, BorderLayout.WEST);
@@ -179,131 +404,189 @@ public class MainFrame extends JFrame {
         return headerPanel;
     }
     
-    private void searchClubs(String searchTerm) {
-        List<Club> allClubs = clubService.findAll();
-        List<Club> filteredClubs = new ArrayList<>();
-        for (Club club : allClubs) {
-            if (club.getClubName().toLowerCase().contains(searchTerm) || 
-                (club.getClubDescription() != null && club.getClubDescription().toLowerCase().contains(searchTerm))) {
-                filteredClubs.add(club);
-            }
-        }
-        if (filteredClubs.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "No clubs found matching: " + searchTerm, "Search Results", JOptionPane.INFORMATION_MESSAGE);
-            return;
-        }
-        displaySearchResults("Clubs matching '" + searchTerm + "'", convertClubsToData(filteredClubs), 
-                             new String[]{"ID", "Club Name", "Description", "Members"});
+    /**
+     * Results of the header search, docked under the tabs and updated as the user types
+     */
+    private JPanel createSearchResultsPanel() {
+        searchResultsPanel = new JPanel(new BorderLayout(10, 5));
+        searchResultsPanel.setBackground(PANEL_COLOR);
+        searchResultsPanel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createMatteBorder(1, 0, 0, 0, new Color(200, 200, 200)),
+                BorderFactory.createEmptyBorder(10, 15, 10, 15)
+        ));
+        searchResultsPanel.setPreferredSize(new Dimension(0, 250));
+        searchResultsLabel = new JLabel();
+        searchResultsLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        searchResultsLabel.setForeground(PRIMARY_COLOR);
+        searchResultsTable = new JTable();
+        searchResultsTable.setRowHeight(30);
+        searchResultsTable.setShowGrid(false);
+        searchResultsTable.setIntercellSpacing(new Dimension(0, 0));
+        searchResultsTable.setSelectionBackground(new Color(240, 240, 255));
+        searchResultsTable.getTableHeader().setFont(new Font("Segoe UI", Font.BOLD, 14));
+        searchResultsTable.getTableHeader().setBackground(new Color(245, 245, 250));
+        searchResultsTable.getTableHeader().setForeground(Color.DARK_GRAY);
+        searchResultsTable.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        JScrollPane scrollPane = new JScrollPane(searchResultsTable);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        JButton closeButton = createStyledButton("Close", null);
+        closeButton.addActionListener(e -> {
+            searchField.setText("");
+            runSearch();
+        });
+        JPanel titlePanel = new JPanel(new BorderLayout());
+        titlePanel.setOpaque(false);
+        titlePanel.add(searchResultsLabel, BorderLayout.WEST);
+        titlePanel.add(closeButton, BorderLayout.EAST);
+        searchResultsPanel.add(titlePanel, BorderLayout.NORTH);
+        searchResultsPanel.add(scrollPane, BorderLayout.CENTER);
+        // Full-text hits come from the database a page at a time as the table is scrolled.
+        // The pager shares the "search" key, so a new search also cancels its page loads.
+        fullTextModel = new SearchHitTableModel();
+        fullTextPager = new TablePager<>(fullTextModel, scrollPane, dataLoader, "search", FULL_TEXT_PAGE_SIZE,
+                ex -> showError("Error running full-text search", ex));
+        searchResultsPanel.setVisible(false);
+        return searchResultsPanel;
     }
     
-    private Object[][] convertClubsToData(List<Club> clubs) {
-        Object[][] data = new Object[clubs.size()][4];
-        for (int i = 0; i < clubs.size(); i++) {
-            Club club = clubs.get(i);
-            data[i][0] = club.getClubId();
-            data[i][1] = club.getClubName();
-            data[i][2] = club.getClubDescription();
-            data[i][3] = memberService.findMembersByClub(club.getClubId()).size();
-        }
-        return data;
+    private void scheduleSearch() {
+        searchDebounce.setInitialDelay(fullTextBox.isSelected() ? FULL_TEXT_DEBOUNCE_MS : SEARCH_DEBOUNCE_MS);
+        searchDebounce.restart();
     }
     
-    private void searchMembers(String searchTerm) {
-        List<Member> allMembers = memberService.findAll();
-        List<Member> filteredMembers = new ArrayList<>();
-        for (Member member : allMembers) {
-            if (member.getMemberName().toLowerCase().contains(searchTerm) || 
-                (member.getEmail() != null && member.getEmail().toLowerCase().contains(searchTerm)) ||
-                (member.getPhone() != null && member.getPhone().contains(searchTerm))) {
-                filteredMembers.add(member);
-            }
+    /**
+     * Searches the current tab for the text in the header search box. A search that
+     * is still running is cancelled, and when the new term extends the previous one
+     * the previous results are narrowed in memory instead of searched again.
+     */
+    private void runSearch() {
+        searchDebounce.stop();
+        String searchTerm = searchField.getText().trim().toLowerCase();
+        if (searchTerm.isEmpty()) {
+            dataLoader.cancel("search");
+            fullTextPager.stop();
+            lastClubSearch = null;
+            lastMemberSearch = null;
+            lastEventSearch = null;
+            searchResultsPanel.setVisible(false);
+            return;
         }
-        if (filteredMembers.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "No members found matching: " + searchTerm, "Search Results", JOptionPane.INFORMATION_MESSAGE);
+        searchResultsPanel.setVisible(true);
+        if (fullTextBox.isSelected()) {
+            // Needs the FULLTEXT indexes from database/migrations/002_fulltext_search_indexes.sql
+            searchResultsLabel.setText("Searching descriptions and announcements for '" + searchTerm + "'...");
+            searchResultsTable.setModel(fullTextModel);
+            fullTextPager.reset((last, offset, limit) -> fullTextSearch.searchAll(searchTerm, offset, limit),
+                    () -> showSearchResults("results", searchTerm, fullTextModel.getRowCount(), null));
             return;
         }
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        Object[][] data = new Object[filteredMembers.size()][6];
-        for (int i = 0; i < filteredMembers.size(); i++) {
-            Member member = filteredMembers.get(i);
-            data[i][0] = member.getMemberId();
-            data[i][1] = member.getMemberName();
-            data[i][2] = member.getEmail();
-            data[i][3] = member.getPhone();
-            data[i][4] = member.getJoinDate() != null ? dateFormat.format(member.getJoinDate()) : "";
-            Club club = clubService.findById(member.getClubId());
-            data[i][5] = club != null ? club.getClubName() : "";
+        fullTextPager.stop();
+        int currentTab = tabbedPane.getSelectedIndex();
+        if (currentTab == 0) {
+            // Clubs already in the grid carry their counts; only the others are counted
+            IntIntMap loadedCounts = new IntIntMap(clubsModel.getRowCount());
+            for (int i = 0; i < clubsModel.getRowCount(); i++) {
+                ClubView club = clubsModel.getRow(i);
+                loadedCounts.put(club.getClubId(), club.getMemberCount());
+            }
+            runIndexSearch("clubs", searchTerm, lastClubSearch, searchIndex::findClubs,
+                    clubs -> {
+                        ClubTableModel model = new ClubTableModel();
+                        model.setRows(withMemberCounts(clubs, loadedCounts));
+                        return model;
+                    },
+                    result -> lastClubSearch = result);
+        } else if (currentTab == 1) {
+            runIndexSearch("members", searchTerm, lastMemberSearch, searchIndex::findMembers,
+                    members -> {
+                        MemberTableModel model = new MemberTableModel();
+                        model.setRows(members);
+                        return model;
+                    },
+                    result -> lastMemberSearch = result);
+        } else if (currentTab == 2) {
+            runIndexSearch("events", searchTerm, lastEventSearch, searchIndex::findEvents,
+                    events -> {
+                        EventTableModel model = new EventTableModel(feedbackService);
+                        model.setRows(events);
+                        return model;
+                    },
+                    result -> lastEventSearch = result);
         }
-        displaySearchResults("Members matching '" + searchTerm + "'", data, 
-                             new String[]{"ID", "Name", "Email", "Phone", "Join Date", "Club"});
     }
     
-    private void searchEvents(String searchTerm) {
-        List<Event> allEvents = eventService.findAll();
-        List<Event> filteredEvents = new ArrayList<>();
-        for (Event event : allEvents) {
-            if (event.getEventName().toLowerCase().contains(searchTerm) || 
-                (event.getDescription() != null && event.getDescription().toLowerCase().contains(searchTerm))) {
-                filteredEvents.add(event);
+    // The search and the model it fills run on the data loader thread; only the finished
+    // model is handed to the EDT. Each word of the search term matches the start of a word
+    // in the indexed fields; members and events with no word match fall back to infix,
+    // then fuzzy matching.
+    private <T> void runIndexSearch(String entity, String searchTerm, SearchResult<T> previous,
+                                    BiFunction<String, SearchResult<T>, SearchResult<T>> find,
+                                    Function<List<T>, TableModel> toModel,
+                                    Consumer<SearchResult<T>> remember) {
+        dataLoader.load("search", () -> {
+            SearchResult<T> result = find.apply(searchTerm, previous);
+            return new SearchOutcome<>(result, toModel.apply(result.getRows()));
+        }, outcome -> {
+            remember.accept(outcome.result);
+            searchResultsTable.setModel(outcome.model);
+            showSearchResults(entity, searchTerm, outcome.model.getRowCount(), outcome.result.getMatch());
+        }, ex -> showError("Error searching " + entity, ex));
+    }
+    
+    private List<ClubView> withMemberCounts(List<Club> clubs) {
+        return withMemberCounts(clubs, new IntIntMap());
+    }
+    
+    // Clubs missing from known are counted with one indexed query over just their members
+    private List<ClubView> withMemberCounts(List<Club> clubs, IntIntMap known) {
+        List<Integer> clubIds = new ArrayList<>();
+        for (Club club : clubs) {
+            if (!known.containsKey(club.getClubId())) {
+                clubIds.add(club.getClubId());
             }
         }
-        if (filteredEvents.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "No events found matching: " + searchTerm, "Search Results", JOptionPane.INFORMATION_MESSAGE);
-            return;
+        IntIntMap memberCounts = memberService.countMembersInClubs(clubIds);
+        List<ClubView> views = new ArrayList<>(clubs.size());
+        for (Club club : clubs) {
+            int clubId = club.getClubId();
+            views.add(new ClubView(club, known.containsKey(clubId)
+                    ? known.get(clubId, 0) : memberCounts.get(clubId, 0)));
         }
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        Object[][] data = new Object[filteredEvents.size()][6];
-        for (int i = 0; i < filteredEvents.size(); i++) {
-            Event event = filteredEvents.get(i);
-            data[i][0] = event.getEventId();
-            data[i][1] = event.getEventName();
-            data[i][2] = event.getDescription();
-            Club club = clubService.findById(event.getClubId());
-            data[i][3] = club != null ? club.getClubName() : "";
-            data[i][4] = event.getEventDate() != null ? dateFormat.format(event.getEventDate()) : "";
-            data[i][5] = event.getVenueId();
+        return views;
+    }
+    
+    private void showSearchResults(String entity, String searchTerm, int count, SearchResult.Match match) {
+        if (count == 0) {
+            searchResultsLabel.setText("No " + entity + " found matching '" + searchTerm + "'");
+        } else if (match == SearchResult.Match.INFIX) {
+            searchResultsLabel.setText(count + " " + entity + " containing '" + searchTerm + "'");
+        } else if (match == SearchResult.Match.FUZZY) {
+            searchResultsLabel.setText(count + " " + entity + " similar to '" + searchTerm + "'");
+        } else {
+            searchResultsLabel.setText(count + (count == FULL_TEXT_PAGE_SIZE && match == null ? "+ " : " ")
+                    + entity + " matching '" + searchTerm + "'");
         }
-        displaySearchResults("Events matching '" + searchTerm + "'", data, 
-                             new String[]{"ID", "Event Name", "Description", "Club", "Date", "Venue"});
+        statusLabel.setText("Search complete");
     }
     
-    private void displaySearchResults(String title, Object[][] data, String[] columnNames) {
-        JDialog resultsDialog = new JDialog(this, "Search Results", true);
-        resultsDialog.setSize(800, 500);
-        resultsDialog.setLocationRelativeTo(this);
-        JPanel panel = new JPanel(new BorderLayout(10, 10));
-        panel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-        panel.setBackground(PANEL_COLOR);
-        JLabel titleLabel = new JLabel(title);
-        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
-        titleLabel.setForeground(PRIMARY_COLOR);
-        DefaultTableModel model = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        JTable table = new JTable(model);
-        table.setRowHeight(40);
-        table.setShowGrid(false);
-        table.setIntercellSpacing(new Dimension(0, 0));
-        table.setSelectionBackground(new Color(240, 240, 255));
-        table.getTableHeader().setFont(new Font("Segoe UI", Font.BOLD, 14));
-        table.getTableHeader().setBackground(new Color(245, 245, 250));
-        table.getTableHeader().setForeground(Color.DARK_GRAY);
-        table.setFont(new Font("Segoe UI", Font.PLAIN, 14));
-        JScrollPane scrollPane = new JScrollPane(table);
-        scrollPane.setBorder(BorderFactory.createEmptyBorder());
-        JButton closeButton = createStyledButton("Close", null);
-        closeButton.addActionListener(e -> resultsDialog.dispose());
-        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
-        buttonPanel.setOpaque(false);
-        buttonPanel.add(closeButton);
-        panel.add(titleLabel, BorderLayout.NORTH);
-        panel.add(scrollPane, BorderLayout.CENTER);
-        panel.add(buttonPanel, BorderLayout.SOUTH);
-        resultsDialog.setContentPane(panel);
-        resultsDialog.setVisible(true);
+    private void showError(String message, Exception ex) {
+        statusLabel.setText(message);
+        JOptionPane.showMessageDialog(this,
+                message + ": " + ex.getMessage(),
+                "Error", JOptionPane.ERROR_MESSAGE);
+    }
+    
+    /**
+     * A search result and the table model built from it off the EDT
+     */
+    private static final class SearchOutcome<T> {
+        private final SearchResult<T> result;
+        private final TableModel model;
+        
+        private SearchOutcome(SearchResult<T> result, TableModel model) {
+            this.result = result;
+            this.model = model;
+        }
     }
     
     private void showAboutDialog() {
@@ -368,6 +651,30 @@ public class MainFrame extends JFrame {
         }
     }
     
+    /**
+     * Fills a club combo box in the background and selects the given club once loaded
+     */
+    private void loadClubCombo(JComboBox<ComboItem> comboBox, int selectedClubId, boolean includeAll) {
+        if (includeAll) {
+            comboBox.addItem(new ComboItem(0, "All Clubs"));
+        }
+        dataLoader.load("club-combo-" + System.identityHashCode(comboBox), () -> clubService.findAll(), clubs -> {
+            for (Club club : clubs) {
+                comboBox.addItem(new ComboItem(club.getClubId(), club.getClubName()));
+            }
+            selectComboItem(comboBox, selectedClubId);
+        }, ex -> showError("Error loading clubs", ex));
+    }
+    
+    private void selectComboItem(JComboBox<ComboItem> comboBox, int value) {
+        for (int i = 0; i < comboBox.getItemCount(); i++) {
+            if (comboBox.getItemAt(i).getValue() == value) {
+                comboBox.setSelectedIndex(i);
+                break;
+            }
+        }
+    }
+    
     private JPanel createClubsPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
         panel.setBackground(BACKGROUND_COLOR);
@@ -387,9 +694,11 @@ public class MainFrame extends JFrame {
         JButton addButton = createStyledButton("Add Club", null);
         JButton editButton = createStyledButton("Edit Club", null);
         JButton deleteButton = createStyledButton("Delete Club", null);
+        JButton announcementsButton = createStyledButton("Announcements", null);
         actionPanel.add(addButton);
         actionPanel.add(editButton);
         actionPanel.add(deleteButton);
+        actionPanel.add(announcementsButton);
         JPanel northPanel = new JPanel(new BorderLayout());
         northPanel.setOpaque(false);
         northPanel.add(titlePanel, BorderLayout.WEST);
@@ -400,15 +709,8 @@ public class MainFrame extends JFrame {
                 BorderFactory.createLineBorder(new Color(230, 230, 230), 1),
                 BorderFactory.createEmptyBorder(15, 15, 15, 15)
         ));
-        String[] columnNames = {"ID", "Club Name", "Description", "Members"};
-        Object[][] data = getClubData();
-        DefaultTableModel model = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        JTable table = new JTable(model);
+        clubsModel = new ClubTableModel();
+        JTable table = new JTable(clubsModel);
         table.setRowHeight(40);
         table.setShowGrid(false);
         table.setIntercellSpacing(new Dimension(0, 0));
@@ -426,13 +728,26 @@ public class MainFrame extends JFrame {
         tablePanel.add(scrollPane, BorderLayout.CENTER);
         panel.add(northPanel, BorderLayout.NORTH);
         panel.add(tablePanel, BorderLayout.CENTER);
+        clubsPager = new TablePager<>(clubsModel, scrollPane, dataLoader, "clubs", PAGE_SIZE,
+                ex -> showError("Error loading clubs", ex));
+        reloadClubsTable();
         addButton.addActionListener(e -> openClubDialog(null));
+        // With no club selected the feed of all clubs is shown
+        announcementsButton.addActionListener(e -> {
+            int selectedRow = table.getSelectedRow();
+            if (selectedRow != -1) {
+                openAnnouncementsDialog((Integer) table.getValueAt(selectedRow, 0),
+                        (String) table.getValueAt(selectedRow, 1));
+            } else {
+                openAnnouncementsDialog(0, "All clubs");
+            }
+        });
         editButton.addActionListener(e -> {
             int selectedRow = table.getSelectedRow();
             if (selectedRow != -1) {
                 int clubId = (Integer) table.getValueAt(selectedRow, 0);
-                Club club = clubService.findById(clubId);
-                openClubDialog(club);
+                dataLoader.load("edit", () -> clubService.findById(clubId),
+                        this::openClubDialog, ex -> showError("Error loading club", ex));
             } else {
                 JOptionPane.showMessageDialog(this, 
                         "Please select a club to edit", 
@@ -452,15 +767,10 @@ public class MainFrame extends JFrame {
                         JOptionPane.WARNING_MESSAGE
                 );
                 if (result == JOptionPane.YES_OPTION) {
-                    try {
-                        clubService.delete(clubId);
-                        refreshClubsPanel();
+                    dataLoader.run(() -> clubService.delete(clubId), () -> {
+                        applyClubDeleted(clubId);
                         statusLabel.setText("Club deleted successfully");
-                    } catch (Exception ex) {
-                        JOptionPane.showMessageDialog(this,
-                                "Error deleting club: " + ex.getMessage(),
-                                "Error", JOptionPane.ERROR_MESSAGE);
-                    }
+                    }, ex -> showError("Error deleting club", ex));
                 }
             } else {
                 JOptionPane.showMessageDialog(this, 
@@ -503,17 +813,78 @@ public class MainFrame extends JFrame {
         return button;
     }
     
-    private Object[][] getClubData() {
-        List<Club> clubs = clubService.findAll();
-        Object[][] data = new Object[clubs.size()][4];
-        for (int i = 0; i < clubs.size(); i++) {
-            Club club = clubs.get(i);
-            data[i][0] = club.getClubId();
-            data[i][1] = club.getClubName();
-            data[i][2] = club.getClubDescription();
-            data[i][3] = memberService.findMembersByClub(club.getClubId()).size();
-        }
-        return data;
+    /**
+     * Newest-first feed of one club's announcements (or every club's when clubId is 0),
+     * paged as it is scrolled
+     */
+    private void openAnnouncementsDialog(int clubId, String clubName) {
+        JDialog dialog = new JDialog(this, "Announcements - " + clubName, true);
+        dialog.setSize(800, 500);
+        dialog.setLocationRelativeTo(this);
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        panel.setBackground(Color.WHITE);
+        JLabel titleLabel = new JLabel("Announcements - " + clubName);
+        titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
+        titleLabel.setForeground(PRIMARY_COLOR);
+        AnnouncementTableModel model = new AnnouncementTableModel();
+        JTable table = new JTable(model);
+        table.setRowHeight(32);
+        table.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        table.getTableHeader().setFont(new Font("Segoe UI", Font.BOLD, 14));
+        table.getColumnModel().getColumn(0).setPreferredWidth(50);
+        table.getColumnModel().getColumn(4).setPreferredWidth(350);
+        JScrollPane scrollPane = new JScrollPane(table);
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.setOpaque(false);
+        JButton postButton = new JButton("Post Announcement");
+        postButton.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        postButton.setEnabled(clubId > 0);
+        JButton closeButton = new JButton("Close");
+        closeButton.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        buttonPanel.add(postButton);
+        buttonPanel.add(closeButton);
+        panel.add(titleLabel, BorderLayout.NORTH);
+        panel.add(scrollPane, BorderLayout.CENTER);
+        panel.add(buttonPanel, BorderLayout.SOUTH);
+        
+        // Pages match the in-memory feed size so the first page never reaches the database twice
+        TablePager<Announcement> pager = new TablePager<>(model, scrollPane, dataLoader, "announcements",
+                AnnouncementService.FEED_SIZE, ex -> showError("Error loading announcements", ex));
+        TablePager.PageSource<Announcement> feed = (last, offset, limit) -> clubId > 0
+                ? announcementService.findClubPage(clubId, last, limit)
+                : announcementService.findPage(last, limit);
+        pager.reset(feed);
+        postButton.addActionListener(e -> {
+            JTextField titleField = new JTextField();
+            JTextArea contentArea = new JTextArea(6, 30);
+            contentArea.setLineWrap(true);
+            contentArea.setWrapStyleWord(true);
+            JPanel form = new JPanel(new BorderLayout(5, 5));
+            form.add(titleField, BorderLayout.NORTH);
+            form.add(new JScrollPane(contentArea), BorderLayout.CENTER);
+            int result = JOptionPane.showConfirmDialog(dialog, form, "Post to " + clubName,
+                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+            if (result != JOptionPane.OK_OPTION) {
+                return;
+            }
+            Announcement announcement = new Announcement(0, clubId, titleField.getText().trim(),
+                    contentArea.getText(), null);
+            announcement.setClubName(clubName);
+            dataLoader.submit(() -> announcementService.save(announcement), saved -> {
+                pager.reset(feed);
+                statusLabel.setText("Announcement posted");
+            }, ex -> showError("Error posting announcement", ex));
+        });
+        closeButton.addActionListener(e -> dialog.dispose());
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                pager.stop();
+            }
+        });
+        dialog.setContentPane(panel);
+        dialog.setVisible(true);
     }
     
     private void openClubDialog(Club club) {
@@ -579,6 +950,7 @@ public class MainFrame extends JFrame {
                 int id = Integer.parseInt(idField.getText());
                 String name = nameField.getText();
                 String description = descArea.getText();
+                String previousName = (club == null) ? null : club.getClubName();
                 Club clubObj = (club == null) ? new Club() : club;
                 clubObj.setClubId(id);
                 clubObj.setClubName(name);
@@ -589,15 +961,23 @@ public class MainFrame extends JFrame {
                             "Validation Error", JOptionPane.ERROR_MESSAGE);
                     return;
                 }
-                if (club == null) {
-                    clubService.save(clubObj);
-                    statusLabel.setText("Club created successfully");
-                } else {
-                    clubService.update(clubObj);
-                    statusLabel.setText("Club updated successfully");
-                }
-                refreshClubsPanel();
-                dialog.dispose();
+                saveButton.setEnabled(false);
+                dataLoader.run(() -> {
+                    if (club == null) {
+                        clubService.save(clubObj);
+                    } else {
+                        clubService.update(clubObj);
+                    }
+                }, () -> {
+                    statusLabel.setText(club == null ? "Club created successfully" : "Club updated successfully");
+                    applyClubSaved(clubObj, previousName);
+                    dialog.dispose();
+                }, ex -> {
+                    saveButton.setEnabled(true);
+                    JOptionPane.showMessageDialog(dialog,
+                            "Error saving club: " + ex.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                });
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(dialog,
                         "Please enter a valid Club ID (numeric value)",
@@ -644,15 +1024,8 @@ public class MainFrame extends JFrame {
                 BorderFactory.createLineBorder(new Color(230, 230, 230), 1),
                 BorderFactory.createEmptyBorder(15, 15, 15, 15)
         ));
-        String[] columnNames = {"ID", "Name", "Email", "Phone", "Join Date", "Club"};
-        Object[][] data = getMemberData();
-        DefaultTableModel model = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        JTable table = new JTable(model);
+        membersModel = new MemberTableModel();
+        JTable table = new JTable(membersModel);
         table.setRowHeight(40);
         table.setShowGrid(false);
         table.setIntercellSpacing(new Dimension(0, 0));
@@ -665,13 +1038,16 @@ public class MainFrame extends JFrame {
         tablePanel.add(scrollPane, BorderLayout.CENTER);
         panel.add(northPanel, BorderLayout.NORTH);
         panel.add(tablePanel, BorderLayout.CENTER);
+        membersPager = new TablePager<>(membersModel, scrollPane, dataLoader, "members", PAGE_SIZE,
+                ex -> showError("Error loading members", ex));
+        reloadMembersTable();
         addButton.addActionListener(e -> openMemberDialog(null));
         editButton.addActionListener(e -> {
             int selectedRow = table.getSelectedRow();
             if (selectedRow != -1) {
                 int memberId = (Integer) table.getValueAt(selectedRow, 0);
-                Member member = memberService.findById(memberId);
-                openMemberDialog(member);
+                dataLoader.load("edit", () -> memberService.findById(memberId),
+                        this::openMemberDialog, ex -> showError("Error loading member", ex));
             } else {
                 JOptionPane.showMessageDialog(this, 
                         "Please select a member to edit", 
@@ -691,16 +1067,17 @@ public class MainFrame extends JFrame {
                         JOptionPane.WARNING_MESSAGE
                 );
                 if (result == JOptionPane.YES_OPTION) {
-                    try {
+                    dataLoader.submit(() -> {
+                        Member deleted = memberService.findById(memberId);
                         memberService.delete(memberId);
-                        refreshMembersPanel();
-                        refreshClubsPanel();
+                        return deleted != null ? deleted.getClubId() : 0;
+                    }, clubId -> {
+                        membersModel.removeById(memberId);
+                        searchIndex.removeMember(memberId);
+                        updateClubMemberCounts(clubId);
+                        refreshAllDashboards();
                         statusLabel.setText("Member deleted successfully");
-                    } catch (Exception ex) {
-                        JOptionPane.showMessageDialog(this,
-                                "Error deleting member: " + ex.getMessage(),
-                                "Error", JOptionPane.ERROR_MESSAGE);
-                    }
+                    }, ex -> showError("Error deleting member", ex));
                 }
             } else {
                 JOptionPane.showMessageDialog(this, 
@@ -712,23 +1089,6 @@ public class MainFrame extends JFrame {
         return panel;
     }
     
-    private Object[][] getMemberData() {
-        List<Member> members = memberService.findAll();
-        Object[][] data = new Object[members.size()][6];
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        for (int i = 0; i < members.size(); i++) {
-            Member member = members.get(i);
-            data[i][0] = member.getMemberId();
-            data[i][1] = member.getMemberName();
-            data[i][2] = member.getEmail();
-            data[i][3] = member.getPhone();
-            data[i][4] = member.getJoinDate() != null ? dateFormat.format(member.getJoinDate()) : "";
-            Club club = clubService.findById(member.getClubId());
-            data[i][5] = club != null ? club.getClubName() : "";
-        }
-        return data;
-    }
-    
     private void openMemberDialog(Member member) {
         String title = (member == null) ? "Add New Member" : "Edit Member";
         JDialog dialog = new JDialog(this, title, true);
@@ -785,19 +1145,7 @@ public class MainFrame extends JFrame {
         JLabel clubLabel = new JLabel("Club:");
         clubLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
         JComboBox<ComboItem> clubComboBox = new JComboBox<>();
-        List<Club> clubs = clubService.findAll();
-        for (Club club : clubs) {
-            clubComboBox.addItem(new ComboItem(club.getClubId(), club.getClubName()));
-        }
-        if (member != null) {
-            for (int i = 0; i < clubComboBox.getItemCount(); i++) {
-                ComboItem item = clubComboBox.getItemAt(i);
-                if (item.getValue() == member.getClubId()) {
-                    clubComboBox.setSelectedIndex(i);
-                    break;
-                }
-            }
-        }
+        loadClubCombo(clubComboBox, member != null ? member.getClubId() : 0, false);
         fieldsPanel.add(idLabel);
         fieldsPanel.add(idField);
         fieldsPanel.add(nameLabel);
@@ -836,7 +1184,14 @@ public class MainFrame extends JFrame {
                 }
                 Date joinDate = ValidationUtils.parseDate(joinDateStr);
                 ComboItem selectedClub = (ComboItem) clubComboBox.getSelectedItem();
+                if (selectedClub == null) {
+                    JOptionPane.showMessageDialog(dialog,
+                            "Please select a club",
+                            "Validation Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
                 int clubId = selectedClub.getValue();
+                int previousClubId = (member == null) ? 0 : member.getClubId();
                 Member memberObj = (member == null) ? new Member() : member;
                 memberObj.setMemberId(id);
                 memberObj.setMemberName(name);
@@ -850,16 +1205,23 @@ public class MainFrame extends JFrame {
                             "Validation Error", JOptionPane.ERROR_MESSAGE);
                     return;
                 }
-                if (member == null) {
-                    memberService.save(memberObj);
-                    statusLabel.setText("Member created successfully");
-                } else {
-                    memberService.update(memberObj);
-                    statusLabel.setText("Member updated successfully");
-                }
-                refreshMembersPanel();
-                refreshClubsPanel();
-                dialog.dispose();
+                saveButton.setEnabled(false);
+                dataLoader.run(() -> {
+                    if (member == null) {
+                        memberService.save(memberObj);
+                    } else {
+                        memberService.update(memberObj);
+                    }
+                }, () -> {
+                    statusLabel.setText(member == null ? "Member created successfully" : "Member updated successfully");
+                    applyMemberSaved(memberObj.getMemberId(), previousClubId, memberObj.getClubId());
+                    dialog.dispose();
+                }, ex -> {
+                    saveButton.setEnabled(true);
+                    JOptionPane.showMessageDialog(dialog,
+                            "Error saving member: " + ex.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                });
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(dialog,
                         "Error saving member: " + ex.getMessage(),
@@ -904,42 +1266,22 @@ public class MainFrame extends JFrame {
         filterComboBox.setFont(new Font("Segoe UI", Font.PLAIN, 14));
         JLabel clubFilterLabel = new JLabel("Club:");
         clubFilterLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
-        JComboBox<ComboItem> clubFilterComboBox = new JComboBox<>();
-        clubFilterComboBox.addItem(new ComboItem(0, "All Clubs"));
-        List<Club> clubs = clubService.findAll();
-        for (Club club : clubs) {
-            clubFilterComboBox.addItem(new ComboItem(club.getClubId(), club.getClubName()));
-        }
+        clubFilterComboBox = new JComboBox<>();
+        loadClubCombo(clubFilterComboBox, 0, true);
         JButton applyFilterButton = createStyledButton("Apply", null);
         applyFilterButton.setPreferredSize(new Dimension(80, 30));
         applyFilterButton.addActionListener(e -> {
             String selectedFilter = (String) filterComboBox.getSelectedItem();
             ComboItem selectedClub = (ComboItem) clubFilterComboBox.getSelectedItem();
-            List<Event> filteredEvents = new ArrayList<>();
-            if ("Upcoming Events".equals(selectedFilter)) {
-                filteredEvents = eventService.findUpcomingEvents();
-            } else if ("Past Events".equals(selectedFilter)) {
-                List<Event> allEvents = eventService.findAll();
-                Date currentDate = new Date();
-                for (Event event : allEvents) {
-                    if (event.getEventDate() != null && event.getEventDate().before(currentDate)) {
-                        filteredEvents.add(event);
-                    }
-                }
-            } else {
-                filteredEvents = eventService.findAll();
-            }
-            if (selectedClub.getValue() != 0) {
-                List<Event> clubFilteredEvents = new ArrayList<>();
-                for (Event event : filteredEvents) {
-                    if (event.getClubId() == selectedClub.getValue()) {
-                        clubFilteredEvents.add(event);
-                    }
-                }
-                filteredEvents = clubFilteredEvents;
-            }
-            updateEventsTable(panel, filteredEvents);
-            statusLabel.setText("Events filtered: " + filteredEvents.size() + " events found");
+            int clubId = selectedClub != null ? selectedClub.getValue() : 0;
+            statusLabel.setText("Filtering events...");
+            // Pages continue after the last row in the filter's order, by (event_date, event_id) when sorted by date
+            eventsFilter = buildEventFilter(selectedFilter, clubId);
+            EventFilter.Sort sort = eventsFilter.getSort();
+            eventsPager.reset((last, offset, limit) ->
+                    eventService.findViews(buildEventFilter(selectedFilter, clubId).after(last).limit(limit)),
+                    sort.order(),
+                    () -> statusLabel.setText("Events filtered: " + eventsModel.getRowCount() + " events loaded"));
         });
         filtersPanel.add(filterLabel);
         filtersPanel.add(filterComboBox);
@@ -953,15 +1295,8 @@ public class MainFrame extends JFrame {
                 BorderFactory.createEmptyBorder(15, 15, 15, 15)
         ));
         tablePanel.add(filtersPanel, BorderLayout.NORTH);
-        String[] columnNames = {"ID", "Event Name", "Description", "Club", "Date", "Venue"};
-        Object[][] data = getEventData();
-        DefaultTableModel model = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        JTable table = new JTable(model);
+        eventsModel = new EventTableModel(feedbackService);
+        JTable table = new JTable(eventsModel);
         table.setRowHeight(40);
         table.setShowGrid(false);
         table.setIntercellSpacing(new Dimension(0, 0));
@@ -974,13 +1309,16 @@ public class MainFrame extends JFrame {
         tablePanel.add(scrollPane, BorderLayout.CENTER);
         panel.add(northPanel, BorderLayout.NORTH);
         panel.add(tablePanel, BorderLayout.CENTER);
+        eventsPager = new TablePager<>(eventsModel, scrollPane, dataLoader, "events", PAGE_SIZE,
+                ex -> showError("Error loading events", ex));
+        reloadEventsTable();
         addButton.addActionListener(e -> openEventDialog(null));
         editButton.addActionListener(e -> {
             int selectedRow = table.getSelectedRow();
             if (selectedRow != -1) {
                 int eventId = (Integer) table.getValueAt(selectedRow, 0);
-                Event event = eventService.findById(eventId);
-                openEventDialog(event);
+                dataLoader.load("edit", () -> eventService.findById(eventId),
+                        this::openEventDialog, ex -> showError("Error loading event", ex));
             } else {
                 JOptionPane.showMessageDialog(this, 
                         "Please select an event to edit", 
@@ -1000,15 +1338,13 @@ public class MainFrame extends JFrame {
                         JOptionPane.WARNING_MESSAGE
                 );
                 if (result == JOptionPane.YES_OPTION) {
-                    try {
-                        eventService.delete(eventId);
-                        refreshEventsPanel();
+                    dataLoader.run(() -> eventService.delete(eventId), () -> {
+                        eventsModel.removeById(eventId);
+                        searchIndex.removeEvent(eventId);
+                        calendarChanged();
+                        refreshAllDashboards();
                         statusLabel.setText("Event deleted successfully");
-                    } catch (Exception ex) {
-                        JOptionPane.showMessageDialog(this,
-                                "Error deleting event: " + ex.getMessage(),
-                                "Error", JOptionPane.ERROR_MESSAGE);
-                    }
+                    }, ex -> showError("Error deleting event", ex));
                 }
             } else {
                 JOptionPane.showMessageDialog(this, 
@@ -1020,46 +1356,22 @@ public class MainFrame extends JFrame {
         return panel;
     }
     
-    private void updateEventsTable(JPanel panel, List<Event> filteredEvents) {
-        Component[] components = panel.getComponents();
-        for (Component c : components) {
-            if (c instanceof JPanel && ((JPanel)c).getComponentCount() > 0) {
-                Component[] subComponents = ((JPanel)c).getComponents();
-                for (Component sc : subComponents) {
-                    if (sc instanceof JScrollPane) {
-                        JScrollPane scrollPane = (JScrollPane) sc;
-                        if (scrollPane.getViewport().getView() instanceof JTable) {
-                            JTable table = (JTable) scrollPane.getViewport().getView();
-                            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-                            Object[][] data = new Object[filteredEvents.size()][6];
-                            for (int i = 0; i < filteredEvents.size(); i++) {
-                                Event event = filteredEvents.get(i);
-                                data[i][0] = event.getEventId();
-                                data[i][1] = event.getEventName();
-                                data[i][2] = event.getDescription();
-                                Club club = clubService.findById(event.getClubId());
-                                data[i][3] = club != null ? club.getClubName() : "";
-                                data[i][4] = event.getEventDate() != null ? dateFormat.format(event.getEventDate()) : "";
-                                Venue venue = venueService.findById(event.getVenueId());
-                                data[i][5] = venue != null ? venue.getVenueName() : String.valueOf(event.getVenueId());
-                            }
-                            DefaultTableModel model = (DefaultTableModel) table.getModel();
-                            model.setRowCount(0);
-                            for (Object[] row : data) {
-                                model.addRow(row);
-                            }
-                            return;
-                        }
-                    }
-                }
-            }
+    private EventFilter buildEventFilter(String selectedFilter, int clubId) {
+        EventFilter filter = new EventFilter().club(clubId);
+        if ("Upcoming Events".equals(selectedFilter)) {
+            filter.upcoming().sort(EventFilter.Sort.DATE_ASC);
+        } else if ("Past Events".equals(selectedFilter)) {
+            filter.past().sort(EventFilter.Sort.DATE_DESC);
         }
+        return filter;
     }
     
     private void openEventDialog(Event event) {
         String title = (event == null) ? "Add New Event" : "Edit Event";
+        // Read before the form writes the new club into event
+        int previousClubId = (event == null) ? 0 : event.getClubId();
         JDialog dialog = new JDialog(this, title, true);
-        dialog.setSize(500, 500);
+        dialog.setSize(500, 560);
         dialog.setLocationRelativeTo(this);
         JPanel formPanel = new JPanel(new BorderLayout(20, 20));
         formPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
@@ -1067,7 +1379,7 @@ public class MainFrame extends JFrame {
         JLabel titleLabel = new JLabel(title);
         titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 18));
         titleLabel.setForeground(PRIMARY_COLOR);
-        JPanel fieldsPanel = new JPanel(new GridLayout(6, 2, 10, 15));
+        JPanel fieldsPanel = new JPanel(new GridLayout(7, 2, 10, 15));
         fieldsPanel.setOpaque(false);
         JLabel idLabel = new JLabel("Event ID:");
         idLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
@@ -1108,34 +1420,60 @@ public class MainFrame extends JFrame {
         JLabel clubLabel = new JLabel("Club:");
         clubLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
         JComboBox<ComboItem> clubComboBox = new JComboBox<>();
-        for (Club club : clubService.findAll()) {
-            clubComboBox.addItem(new ComboItem(club.getClubId(), club.getClubName()));
-        }
-        if (event != null) {
-            for (int i = 0; i < clubComboBox.getItemCount(); i++) {
-                ComboItem item = clubComboBox.getItemAt(i);
-                if (item.getValue() == event.getClubId()) {
-                    clubComboBox.setSelectedIndex(i);
-                    break;
-                }
-            }
-        }
+        loadClubCombo(clubComboBox, event != null ? event.getClubId() : 0, false);
         JLabel venueLabel = new JLabel("Venue:");
         venueLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
         JComboBox<ComboItem> venueComboBox = new JComboBox<>();
-        List<Venue> venues = venueService.findAll();
-        for (Venue venue : venues) {
-            venueComboBox.addItem(new ComboItem(venue.getVenueId(), venue.getVenueName()));
-        }
-        if (event != null) {
-            for (int i = 0; i < venueComboBox.getItemCount(); i++) {
-                ComboItem item = venueComboBox.getItemAt(i);
-                if (item.getValue() == event.getVenueId()) {
-                    venueComboBox.setSelectedIndex(i);
-                    break;
+        int selectedVenueId = event != null ? event.getVenueId() : 0;
+        dataLoader.load("venue-combo", () -> venueService.findAll(), venues -> {
+            for (Venue venue : venues) {
+                venueComboBox.addItem(new ComboItem(venue.getVenueId(), venue.getVenueName()));
+            }
+            selectComboItem(venueComboBox, selectedVenueId);
+        }, ex -> showError("Error loading venues", ex));
+        // Shows whether the chosen venue is already booked on the chosen date
+        JLabel availabilityTitle = new JLabel("Availability:");
+        availabilityTitle.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        JLabel availabilityLabel = new JLabel(" ");
+        availabilityLabel.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        int editedEventId = event != null ? event.getEventId() : 0;
+        Runnable checkAvailability = () -> {
+            ComboItem venue = (ComboItem) venueComboBox.getSelectedItem();
+            Date date = ValidationUtils.parseDate(dateField.getText().trim());
+            if (venue == null || date == null) {
+                availabilityLabel.setText(" ");
+                return;
+            }
+            dataLoader.load("venue-availability", () -> {
+                int conflict = eventService.findVenueConflict(venue.getValue(), date, editedEventId);
+                if (conflict == 0) {
+                    return null;
                 }
+                SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+                return "Booked by event " + conflict + "; next free "
+                        + sdf.format(eventService.findNextFreeDate(venue.getValue(), date));
+            }, conflictText -> {
+                availabilityLabel.setForeground(conflictText == null ? PRIMARY_COLOR : Color.RED);
+                availabilityLabel.setText(conflictText == null ? "Venue is free on this date" : conflictText);
+            }, ex -> availabilityLabel.setText("Availability unknown"));
+        };
+        venueComboBox.addActionListener(e -> checkAvailability.run());
+        dateField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                checkAvailability.run();
             }
-        }
+            
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                checkAvailability.run();
+            }
+            
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                checkAvailability.run();
+            }
+        });
         fieldsPanel.add(idLabel);
         fieldsPanel.add(idField);
         fieldsPanel.add(nameLabel);
@@ -1146,6 +1484,8 @@ public class MainFrame extends JFrame {
         fieldsPanel.add(dateField);
         fieldsPanel.add(venueLabel);
         fieldsPanel.add(venueComboBox);
+        fieldsPanel.add(availabilityTitle);
+        fieldsPanel.add(availabilityLabel);
         fieldsPanel.add(descLabel);
         fieldsPanel.add(descScroll);
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
@@ -1173,8 +1513,14 @@ public class MainFrame extends JFrame {
                 }
                 Date eventDate = ValidationUtils.parseDate(eventDateStr);
                 ComboItem selectedClub = (ComboItem) clubComboBox.getSelectedItem();
-                int clubId = selectedClub.getValue();
                 ComboItem selectedVenue = (ComboItem) venueComboBox.getSelectedItem();
+                if (selectedClub == null || selectedVenue == null) {
+                    JOptionPane.showMessageDialog(dialog,
+                            "Please select a club and a venue",
+                            "Validation Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                int clubId = selectedClub.getValue();
                 int venueId = selectedVenue.getValue();
                 Event eventObj = (event == null) ? new Event() : event;
                 eventObj.setEventId(id);
@@ -1189,15 +1535,27 @@ public class MainFrame extends JFrame {
                             "Validation Error", JOptionPane.ERROR_MESSAGE);
                     return;
                 }
-                if (event == null) {
-                    eventService.save(eventObj);
-                    statusLabel.setText("Event created successfully");
-                } else {
-                    eventService.update(eventObj);
-                    statusLabel.setText("Event updated successfully");
-                }
-                refreshEventsPanel();
-                dialog.dispose();
+                saveButton.setEnabled(false);
+                dataLoader.run(() -> {
+                    if (event == null) {
+                        eventService.save(eventObj);
+                    } else {
+                        eventService.update(eventObj);
+                    }
+                }, () -> {
+                    statusLabel.setText(event == null ? "Event created successfully" : "Event updated successfully");
+                    applyEventSaved(eventObj.getEventId(), previousClubId, clubId);
+                    dialog.dispose();
+                }, ex -> {
+                    saveButton.setEnabled(true);
+                    if (ex instanceof BookingConflictException) {
+                        offerNextFreeDate(dialog, dateField, (BookingConflictException) ex);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(dialog,
+                            "Error saving event: " + ex.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                });
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(dialog,
                         "Error saving event: " + ex.getMessage(),
@@ -1208,25 +1566,33 @@ public class MainFrame extends JFrame {
         dialog.setVisible(true);
     }
     
-    private Object[][] getEventData() {
-        List<Event> events = eventService.findAll();
-        Object[][] data = new Object[events.size()][6];
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        for (int i = 0; i < events.size(); i++) {
-            Event event = events.get(i);
-            data[i][0] = event.getEventId();
-            data[i][1] = event.getEventName();
-            data[i][2] = event.getDescription();
-            Club club = clubService.findById(event.getClubId());
-            data[i][3] = club != null ? club.getClubName() : "";
-            data[i][4] = event.getEventDate() != null ? dateFormat.format(event.getEventDate()) : "";
-            Venue venue = venueService.findById(event.getVenueId());
-            data[i][5] = venue != null ? venue.getVenueName() : String.valueOf(event.getVenueId());
+    /**
+     * Explains a double booking and offers to move the event to the venue's next free date
+     */
+    private void offerNextFreeDate(JDialog dialog, JTextField dateField, BookingConflictException conflict) {
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+        String nextFree = sdf.format(conflict.getNextFreeDate());
+        int choice = JOptionPane.showConfirmDialog(dialog,
+                "This venue is already booked on " + sdf.format(conflict.getDate())
+                        + " by event " + conflict.getConflictingEventId() + ".\n"
+                        + "Move this event to the next free date, " + nextFree + "?",
+                "Venue Already Booked", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+        if (choice == JOptionPane.YES_OPTION) {
+            dateField.setText(nextFree);
         }
-        return data;
     }
     
     private void refreshAllPanels() {
+        // Picks up changes made outside this window the next time someone searches
+        searchIndex.invalidate();
+        eventService.invalidateVenueSchedule();
+        reconcileFeedback();
+        budgetService.invalidate();
+        announcementService.invalidate();
+        if (tabbedPane.getSelectedComponent() == budgetPanel) {
+            budgetPanel.reload();
+        }
+        calendarChanged();
         refreshClubsPanel();
         refreshMembersPanel();
         refreshEventsPanel();
@@ -1234,30 +1600,159 @@ public class MainFrame extends JFrame {
     }
     
     private void refreshClubsPanel() {
-        int index = tabbedPane.indexOfComponent(tabbedPane.getComponentAt(0));
-        if (index != -1) {
-            clubsPanel = createClubsPanel();
-            tabbedPane.setComponentAt(index, createScrollPane(clubsPanel));
-            refreshAllDashboards();
-        }
+        reloadClubsTable();
+        refreshAllDashboards();
     }
     
     private void refreshMembersPanel() {
-        int index = tabbedPane.indexOfComponent(tabbedPane.getComponentAt(1));
-        if (index != -1) {
-            membersPanel = createMembersPanel();
-            tabbedPane.setComponentAt(index, createScrollPane(membersPanel));
-            refreshAllDashboards();
-        }
+        reloadMembersTable();
+        refreshAllDashboards();
     }
     
     private void refreshEventsPanel() {
-        int index = tabbedPane.indexOfComponent(tabbedPane.getComponentAt(2));
-        if (index != -1) {
-            eventsPanel = createEventsPanel();
-            tabbedPane.setComponentAt(index, createScrollPane(eventsPanel));
-            refreshAllDashboards();
+        reloadEventsTable();
+        refreshAllDashboards();
+    }
+    
+    private void reloadClubsTable() {
+        clubsPager.reset((last, offset, limit) ->
+                withMemberCounts(clubService.findPage(last != null ? last.getClubId() : null, limit)),
+                Comparator.comparingInt(ClubView::getClubId));
+    }
+    
+    private void reloadMembersTable() {
+        membersPager.reset((last, offset, limit) ->
+                memberService.findViewPage(last != null ? last.getMemberId() : null, limit),
+                Comparator.comparingInt(MemberView::getMemberId));
+    }
+    
+    private void reloadEventsTable() {
+        eventsFilter = null;
+        eventsPager.reset((last, offset, limit) ->
+                eventService.findViewPage(last != null ? last.getEventId() : null, limit),
+                EventFilter.Sort.ID.order());
+    }
+    
+    // Row-level updates applied after a save or delete; only the affected rows are touched
+    
+    private void applyClubSaved(Club club, String previousName) {
+        ClubView existing = clubsModel.findById(club.getClubId());
+        clubsPager.upsert(new ClubView(club, existing != null ? existing.getMemberCount() : 0));
+        if (previousName != null && !previousName.equals(club.getClubName())) {
+            membersModel.updateIf(m -> m.getClubId() == club.getClubId(), m -> m.setClubName(club.getClubName()));
+            eventsModel.updateIf(e -> e.getClubId() == club.getClubId(), e -> e.setClubName(club.getClubName()));
         }
+        upsertComboItem(clubFilterComboBox, club.getClubId(), club.getClubName());
+        searchIndex.indexClub(club);
+        announcementService.clubChanged(club.getClubId());
+        dataLoader.run(() -> budgetService.refreshClubs(club.getClubId()), () -> { },
+                ex -> statusLabel.setText("Budget totals will be reloaded on next view"));
+        refreshAllDashboards();
+    }
+    
+    private void applyClubDeleted(int clubId) {
+        clubsModel.removeById(clubId);
+        // ClubMembers rows are removed by ON DELETE CASCADE
+        membersModel.removeIf(m -> m.getClubId() == clubId);
+        searchIndex.removeClub(clubId);
+        budgetService.removeClub(clubId);
+        announcementService.clubChanged(clubId);
+        for (int i = 0; i < clubFilterComboBox.getItemCount(); i++) {
+            if (clubFilterComboBox.getItemAt(i).getValue() == clubId) {
+                clubFilterComboBox.removeItemAt(i);
+                break;
+            }
+        }
+        refreshAllDashboards();
+    }
+    
+    private void applyMemberSaved(int memberId, int previousClubId, int clubId) {
+        dataLoader.load("member-row-" + memberId, () -> memberService.findViewById(memberId), member -> {
+            if (member != null) {
+                membersPager.upsert(member);
+                searchIndex.indexMember(member);
+            }
+        }, ex -> showError("Error loading member", ex));
+        if (previousClubId == 0 || previousClubId == clubId) {
+            updateClubMemberCounts(clubId);
+        } else {
+            updateClubMemberCounts(previousClubId, clubId);
+        }
+        refreshAllDashboards();
+    }
+    
+    private void applyEventSaved(int eventId, int previousClubId, int clubId) {
+        dataLoader.load("event-row-" + eventId, () -> eventService.findViewById(eventId), event -> {
+            if (event != null) {
+                if (eventsFilter == null || eventsFilter.matches(event)) {
+                    eventsPager.upsert(event);
+                } else {
+                    // Moved out of the filtered view, e.g. re-dated or given to another club
+                    eventsModel.removeById(eventId);
+                }
+                searchIndex.indexEvent(event);
+            }
+        }, ex -> showError("Error loading event", ex));
+        // The event's sponsorships now count towards the other club
+        if (previousClubId != 0 && previousClubId != clubId) {
+            dataLoader.run(() -> budgetService.refreshClubs(previousClubId, clubId), () -> { },
+                    ex -> statusLabel.setText("Budget totals will be reloaded on next view"));
+        }
+        calendarChanged();
+        refreshAllDashboards();
+    }
+    
+    // Rebuilds the rating totals from the database, then redraws the ratings shown
+    private void reconcileFeedback() {
+        dataLoader.load("feedback", () -> {
+            feedbackService.reconcile();
+            return null;
+        }, ignored -> {
+            eventsModel.ratingsChanged();
+            refreshStatsDashboard();
+        }, ex -> statusLabel.setText("Unable to load event ratings"));
+    }
+    
+    // An added, moved or deleted event can change any cached month
+    private void calendarChanged() {
+        calendarCache.invalidateAll();
+        if (tabbedPane.getSelectedComponent() == calendarPanel) {
+            calendarPanel.reload();
+        }
+    }
+    
+    private void updateClubMemberCounts(int... clubIds) {
+        dataLoader.load("club-counts-" + Arrays.toString(clubIds), () -> {
+            IntIntMap counts = new IntIntMap();
+            for (int clubId : clubIds) {
+                if (clubId > 0) {
+                    counts.put(clubId, memberService.countMembersInClub(clubId));
+                }
+            }
+            return counts;
+        }, counts -> clubsModel.updateIf(c -> counts.containsKey(c.getClubId()),
+                c -> c.setMemberCount(counts.get(c.getClubId(), 0))),
+        ex -> showError("Error counting club members", ex));
+    }
+    
+    private void upsertComboItem(JComboBox<ComboItem> comboBox, int value, String label) {
+        for (int i = 0; i < comboBox.getItemCount(); i++) {
+            if (comboBox.getItemAt(i).getValue() == value) {
+                boolean selected = comboBox.getSelectedIndex() == i;
+                comboBox.removeItemAt(i);
+                comboBox.insertItemAt(new ComboItem(value, label), i);
+                if (selected) {
+                    comboBox.setSelectedIndex(i);
+                }
+                return;
+            }
+        }
+        comboBox.addItem(new ComboItem(value, label));
+    }
+    
+    private void refreshStatsDashboard() {
+        dataLoader.load("stats", () -> statsService.getSnapshot(),
+                statsDashboard::showSnapshot, ex -> statusLabel.setText("Unable to refresh statistics"));
     }
     
     private void refreshAllDashboards() {
@@ -1270,7 +1765,9 @@ public class MainFrame extends JFrame {
     
     private void findAndRefreshDashboards(Container container) {
         for (Component comp : container.getComponents()) {
-            if (comp instanceof BaseDashboardPanel) {
+            if (comp == statsDashboard) {
+                refreshStatsDashboard();
+            } else if (comp instanceof BaseDashboardPanel) {
                 ((BaseDashboardPanel) comp).refreshData();
             } else if (comp instanceof Container) {
                 findAndRefreshDashboards((Container) comp);
@@ -0,0 +1,165 @@
+package ui;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.swing.BoundedRangeModel;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+import ui.components.EntityTableModel;
+
+/**
+ * Fills an EntityTableModel one page at a time, fetching the next page when the
+ * table is scrolled near the bottom. Only the pages the user has scrolled through
+ * are held in memory. Must be used on the EDT.
+ *
+ * Saved rows are shown with upsert() rather than on the model directly, so a row
+ * that a later page will fetch is not added twice.
+ */
+public class TablePager<T> {
+
+    /**
+     * Fetches a page. last is the final row of the previous page (null for the first
+     * page) for keyset paging; offset is the number of rows already fetched for
+     * sources that page by offset.
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+        List<T> fetch(T last, int offset, int limit) throws Exception;
+    }
+
+    // Start loading when fewer than this many pixels remain below the viewport
+    private static final int PREFETCH_MARGIN = 400;
+
+    private final EntityTableModel<T> model;
+    private final BoundedRangeModel scrollModel;
+    private final AsyncDataLoader loader;
+    private final String key;
+    private final int pageSize;
+    private final Consumer<Exception> onError;
+
+    private PageSource<T> source;
+    private Comparator<? super T> order;
+    private T lastFetched;
+    private int fetchedCount;
+    private boolean loading;
+    private boolean exhausted;
+
+    public TablePager(EntityTableModel<T> model, JScrollPane scrollPane, AsyncDataLoader loader,
+                      String key, int pageSize, Consumer<Exception> onError) {
+        this.model = model;
+        this.scrollModel = scrollPane.getVerticalScrollBar().getModel();
+        this.loader = loader;
+        this.key = key;
+        this.pageSize = pageSize;
+        this.onError = onError;
+        scrollModel.addChangeListener(e -> loadMoreIfNeeded());
+    }
+
+    public void reset(PageSource<T> newSource) {
+        reset(newSource, null, () -> { });
+    }
+
+    public void reset(PageSource<T> newSource, Runnable onFirstPage) {
+        reset(newSource, null, onFirstPage);
+    }
+
+    public void reset(PageSource<T> newSource, Comparator<? super T> order) {
+        reset(newSource, order, () -> { });
+    }
+
+    /**
+     * Replaces the table contents with the first page of newSource.
+     * A load still in flight from the previous source is discarded.
+     *
+     * order is the order of a keyset source (null for offset sources). With it,
+     * rows already in the model are dropped from later pages, and upsert() can
+     * tell which rows no later page will fetch.
+     */
+    public void reset(PageSource<T> newSource, Comparator<? super T> order, Runnable onFirstPage) {
+        source = newSource;
+        this.order = order;
+        lastFetched = null;
+        fetchedCount = 0;
+        exhausted = false;
+        loading = true;
+        PageSource<T> current = newSource;
+        loader.load(key, () -> current.fetch(null, 0, pageSize), rows -> {
+            model.setRows(rows);
+            pageLoaded(rows);
+            onFirstPage.run();
+        }, this::failed);
+    }
+
+    /**
+     * Stops fetching pages until the next reset; rows already loaded stay in the model
+     */
+    public void stop() {
+        source = null;
+        loading = false;
+    }
+
+    /**
+     * Shows a saved row at its place in the source's order when no later page
+     * would fetch it. A loaded row that now sorts past the loaded pages is removed,
+     * and the page that covers its new place fetches it again.
+     */
+    public void upsert(T row) {
+        if (isBeforeNextPage(row)) {
+            model.upsert(row, order);
+        } else if (model.contains(row)) {
+            if (order != null) {
+                model.remove(row);
+            } else {
+                model.upsert(row);
+            }
+        }
+    }
+
+    private boolean isBeforeNextPage(T row) {
+        if (source == null || exhausted) {
+            return true;
+        }
+        if (lastFetched == null) {
+            // The first page is still loading and will include the row if it belongs there
+            return false;
+        }
+        return order != null && order.compare(row, lastFetched) <= 0;
+    }
+
+    private void loadMoreIfNeeded() {
+        if (source == null || loading || exhausted) {
+            return;
+        }
+        int remaining = scrollModel.getMaximum() - (scrollModel.getValue() + scrollModel.getExtent());
+        if (remaining > PREFETCH_MARGIN) {
+            return;
+        }
+        loading = true;
+        PageSource<T> current = source;
+        T last = lastFetched;
+        int offset = fetchedCount;
+        loader.load(key, () -> current.fetch(last, offset, pageSize), rows -> {
+            model.addRows(order != null ? model.withoutLoaded(rows) : rows);
+            pageLoaded(rows);
+        }, this::failed);
+    }
+
+    private void pageLoaded(List<T> rows) {
+        loading = false;
+        fetchedCount += rows.size();
+        if (!rows.isEmpty()) {
+            lastFetched = rows.get(rows.size() - 1);
+        }
+        exhausted = rows.size() < pageSize;
+        // A page that doesn't fill the viewport produces no scroll event, so check again
+        // once the table has been laid out with the new rows
+        SwingUtilities.invokeLater(this::loadMoreIfNeeded);
+    }
+
+    private void failed(Exception ex) {
+        loading = false;
+        exhausted = true;
+        onError.accept(ex);
+    }
+}
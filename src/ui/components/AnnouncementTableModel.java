@@ -0,0 +1,27 @@
+package ui.components;
+
+import model.Announcement;
+
+public class AnnouncementTableModel extends EntityTableModel<Announcement> {
+    
+    public AnnouncementTableModel() {
+        super(new String[]{"ID", "Date", "Club", "Title", "Content"});
+    }
+    
+    @Override
+    protected int getId(Announcement announcement) {
+        return announcement.getAnnouncementId();
+    }
+    
+    @Override
+    protected Object getColumnValue(Announcement announcement, int column) {
+        switch (column) {
+            case 0: return announcement.getAnnouncementId();
+            case 1: return formatDate(announcement.getAnnouncementDate());
+            case 2: return announcement.getClubName() != null ? announcement.getClubName() : "";
+            case 3: return announcement.getTitle();
+            case 4: return announcement.getContent();
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ui.components;
+
+import java.math.BigDecimal;
+import model.BudgetSummary;
+
+public class BudgetSummaryTableModel extends EntityTableModel<BudgetSummary> {
+    
+    /**
+     * @param nameColumn heading of the name column, "Club" or "Event"
+     */
+    public BudgetSummaryTableModel(String nameColumn) {
+        super(new String[]{"ID", nameColumn, "Requests", "Requested", "Approved", "Sponsored", "Outstanding"});
+    }
+    
+    @Override
+    protected int getId(BudgetSummary summary) {
+        return summary.getId();
+    }
+    
+    @Override
+    protected Object getColumnValue(BudgetSummary summary, int column) {
+        switch (column) {
+            case 0: return summary.getId();
+            case 1: return summary.getName();
+            case 2: return summary.getRequestCount();
+            case 3: return formatAmount(summary.getRequested());
+            case 4: return formatAmount(summary.getApproved());
+            case 5: return formatAmount(summary.getSponsored());
+            case 6: return formatAmount(summary.getOutstanding());
+            default: return null;
+        }
+    }
+    
+    private static String formatAmount(BigDecimal amount) {
+        return String.format("%,.2f", amount);
+    }
+}
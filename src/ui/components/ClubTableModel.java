@@ -0,0 +1,26 @@
+package ui.components;
+
+import model.ClubView;
+
+public class ClubTableModel extends EntityTableModel<ClubView> {
+    
+    public ClubTableModel() {
+        super(new String[]{"ID", "Club Name", "Description", "Members"});
+    }
+    
+    @Override
+    protected int getId(ClubView club) {
+        return club.getClubId();
+    }
+    
+    @Override
+    protected Object getColumnValue(ClubView club, int column) {
+        switch (column) {
+            case 0: return club.getClubId();
+            case 1: return club.getClubName();
+            case 2: return club.getClubDescription();
+            case 3: return club.getMemberCount();
+            default: return null;
+        }
+    }
+}
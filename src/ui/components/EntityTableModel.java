@@ -0,0 +1,219 @@
+package ui.components;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Read-only table model backed directly by a list of entities.
+ * Cell values are computed when the table asks for them, so no Object[][]
+ * copy of the data is kept. All methods must be called on the EDT.
+ */
+public abstract class EntityTableModel<T> extends AbstractTableModel {
+    private final String[] columnNames;
+    private List<T> rows = new ArrayList<>();
+    
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+    private final Map<Long, String> formattedDates = new HashMap<>();
+    
+    protected EntityTableModel(String[] columnNames) {
+        this.columnNames = columnNames;
+    }
+    
+    /**
+     * Primary key of a row, used to locate it for updates and deletes
+     */
+    protected abstract int getId(T row);
+    
+    protected abstract Object getColumnValue(T row, int column);
+    
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+    
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+    
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+    
+    @Override
+    public Object getValueAt(int row, int column) {
+        return getColumnValue(rows.get(row), column);
+    }
+    
+    public T getRow(int row) {
+        return rows.get(row);
+    }
+    
+    /**
+     * Takes ownership of the list and fires a single data-changed event
+     */
+    public void setRows(List<T> newRows) {
+        rows = newRows;
+        fireTableDataChanged();
+    }
+    
+    /**
+     * Appends a page of rows, firing one insert event for the block
+     */
+    public void addRows(List<T> moreRows) {
+        if (moreRows.isEmpty()) {
+            return;
+        }
+        int first = rows.size();
+        rows.addAll(moreRows);
+        fireTableRowsInserted(first, rows.size() - 1);
+    }
+    
+    public int findRowById(int id) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (getId(rows.get(i)) == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    public boolean contains(T entity) {
+        return findRowById(getId(entity)) != -1;
+    }
+    
+    public void remove(T entity) {
+        removeById(getId(entity));
+    }
+    
+    /**
+     * The given rows minus those whose IDs are already in the model, in one pass
+     * over the model
+     */
+    public List<T> withoutLoaded(List<T> candidates) {
+        Set<Integer> ids = new HashSet<>();
+        for (T candidate : candidates) {
+            ids.add(getId(candidate));
+        }
+        Set<Integer> loaded = new HashSet<>();
+        for (T row : rows) {
+            int id = getId(row);
+            if (ids.contains(id)) {
+                loaded.add(id);
+            }
+        }
+        if (loaded.isEmpty()) {
+            return candidates;
+        }
+        List<T> fresh = new ArrayList<>(candidates.size());
+        for (T candidate : candidates) {
+            if (!loaded.contains(getId(candidate))) {
+                fresh.add(candidate);
+            }
+        }
+        return fresh;
+    }
+    
+    public T findById(int id) {
+        int row = findRowById(id);
+        return row != -1 ? rows.get(row) : null;
+    }
+    
+    /**
+     * Replaces the row with the same ID or appends it
+     */
+    public void upsert(T entity) {
+        int row = findRowById(getId(entity));
+        if (row == -1) {
+            rows.add(entity);
+            fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+        } else {
+            rows.set(row, entity);
+            fireTableRowsUpdated(row, row);
+        }
+    }
+    
+    /**
+     * Replaces or inserts the row at its place in order, for models whose rows are
+     * sorted by it (e.g. pages from a keyset source); appends like upsert(entity)
+     * when order is null
+     */
+    public void upsert(T entity, Comparator<? super T> order) {
+        if (order == null) {
+            upsert(entity);
+            return;
+        }
+        int row = findRowById(getId(entity));
+        if (row != -1) {
+            boolean fits = (row == 0 || order.compare(rows.get(row - 1), entity) <= 0)
+                    && (row == rows.size() - 1 || order.compare(entity, rows.get(row + 1)) <= 0);
+            if (fits) {
+                rows.set(row, entity);
+                fireTableRowsUpdated(row, row);
+                return;
+            }
+            rows.remove(row);
+            fireTableRowsDeleted(row, row);
+        }
+        int at = Collections.binarySearch(rows, entity, order);
+        if (at < 0) {
+            at = -at - 1;
+        }
+        rows.add(at, entity);
+        fireTableRowsInserted(at, at);
+    }
+    
+    public void removeById(int id) {
+        int row = findRowById(id);
+        if (row != -1) {
+            rows.remove(row);
+            fireTableRowsDeleted(row, row);
+        }
+    }
+    
+    public void removeIf(Predicate<T> condition) {
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            if (condition.test(rows.get(i))) {
+                rows.remove(i);
+                fireTableRowsDeleted(i, i);
+            }
+        }
+    }
+    
+    public void updateIf(Predicate<T> condition, Consumer<T> change) {
+        for (int i = 0; i < rows.size(); i++) {
+            T row = rows.get(i);
+            if (condition.test(row)) {
+                change.accept(row);
+                fireTableRowsUpdated(i, i);
+            }
+        }
+    }
+    
+    /**
+     * Formats a date once; repeated dates reuse the cached string
+     */
+    protected String formatDate(Date date) {
+        if (date == null) {
+            return "";
+        }
+        return formattedDates.computeIfAbsent(date.getTime(), time -> dateFormat.format(date));
+    }
+}
@@ -0,0 +1,49 @@
+package ui.components;
+
+import model.EventView;
+import service.FeedbackService;
+
+public class EventTableModel extends EntityTableModel<EventView> {
+    private final FeedbackService feedbackService;
+    
+    public EventTableModel() {
+        this(null);
+    }
+    
+    /**
+     * Shows each event's average rating from the service's in-memory totals
+     */
+    public EventTableModel(FeedbackService feedbackService) {
+        super(new String[]{"ID", "Event Name", "Description", "Club", "Date", "Venue", "Rating"});
+        this.feedbackService = feedbackService;
+    }
+    
+    /**
+     * Redraws the rating column after the feedback totals change, keeping the selection
+     */
+    public void ratingsChanged() {
+        if (getRowCount() > 0) {
+            fireTableRowsUpdated(0, getRowCount() - 1);
+        }
+    }
+    
+    @Override
+    protected int getId(EventView event) {
+        return event.getEventId();
+    }
+    
+    @Override
+    protected Object getColumnValue(EventView event, int column) {
+        switch (column) {
+            case 0: return event.getEventId();
+            case 1: return event.getEventName();
+            case 2: return event.getDescription();
+            case 3: return event.getClubName() != null ? event.getClubName() : "";
+            case 4: return formatDate(event.getEventDate());
+            case 5: return event.getVenueDisplayName();
+            case 6: return feedbackService != null
+                    ? feedbackService.getSummary(event.getEventId()).getDisplayText() : "";
+            default: return null;
+        }
+    }
+}
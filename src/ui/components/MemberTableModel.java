@@ -0,0 +1,28 @@
+package ui.components;
+
+import model.MemberView;
+
+public class MemberTableModel extends EntityTableModel<MemberView> {
+    
+    public MemberTableModel() {
+        super(new String[]{"ID", "Name", "Email", "Phone", "Join Date", "Club"});
+    }
+    
+    @Override
+    protected int getId(MemberView member) {
+        return member.getMemberId();
+    }
+    
+    @Override
+    protected Object getColumnValue(MemberView member, int column) {
+        switch (column) {
+            case 0: return member.getMemberId();
+            case 1: return member.getMemberName();
+            case 2: return member.getEmail();
+            case 3: return member.getPhone();
+            case 4: return formatDate(member.getJoinDate());
+            case 5: return member.getClubName() != null ? member.getClubName() : "";
+            default: return null;
+        }
+    }
+}
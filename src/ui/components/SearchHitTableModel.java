@@ -0,0 +1,29 @@
+package ui.components;
+
+import model.SearchHit;
+
+public class SearchHitTableModel extends EntityTableModel<SearchHit> {
+    
+    public SearchHitTableModel() {
+        super(new String[]{"Type", "ID", "Title", "Club", "Date", "Excerpt", "Relevance"});
+    }
+    
+    @Override
+    protected int getId(SearchHit hit) {
+        return hit.getId();
+    }
+    
+    @Override
+    protected Object getColumnValue(SearchHit hit, int column) {
+        switch (column) {
+            case 0: return hit.getKind().getLabel();
+            case 1: return hit.getId();
+            case 2: return hit.getTitle();
+            case 3: return hit.getClubName() != null ? hit.getClubName() : "";
+            case 4: return formatDate(hit.getDate());
+            case 5: return hit.getSnippet() != null ? hit.getSnippet() : "";
+            case 6: return String.format("%.2f", hit.getRelevance());
+            default: return null;
+        }
+    }
+}
@@ -2,35 +2,24 @@ package ui.components;
 
 import java.awt.*;
 import javax.swing.*;
-import model.Club;
-import model.Event;
-import model.Member;
-import service.ClubService;
-import service.EventService;
-import service.MemberService;
-import utils.Printable;
+import model.StatsSnapshot;
+import service.StatsService;
 
 /**
  * Component that displays statistics about clubs, members, and events.
  */
 public class StatsComponent extends BaseComponent {
     
-    private ClubService clubService;
-    private MemberService memberService;
-    private EventService eventService;
+    private StatsService statsService;
+    private StatsSnapshot lastSnapshot;
     
     private JLabel clubsLabel;
     private JLabel membersLabel;
     private JLabel eventsLabel;
     
-    public StatsComponent(String title, Color backgroundColor, 
-                          ClubService clubService, 
-                          MemberService memberService, 
-                          EventService eventService) {
+    public StatsComponent(String title, Color backgroundColor, StatsService statsService) {
         super(title, backgroundColor);
-        this.clubService = clubService;
-        this.memberService = memberService;
-        this.eventService = eventService;
+        this.statsService = statsService;
         
         initializeUI();
         updateStats();
@@ -50,22 +39,18 @@ public class StatsComponent extends BaseComponent {
     }
     
     public void updateStats() {
-        int clubCount = clubService.findAll().size();
-        int memberCount = memberService.findAll().size();
-        int eventCount = eventService.findAll().size();
+        lastSnapshot = statsService.getSnapshot();
         
-        clubsLabel.setText("Clubs: " + clubCount);
-        membersLabel.setText("Members: " + memberCount);
-        eventsLabel.setText("Events: " + eventCount);
+        clubsLabel.setText("Clubs: " + lastSnapshot.getClubCount());
+        membersLabel.setText("Members: " + lastSnapshot.getMemberCount());
+        eventsLabel.setText("Events: " + lastSnapshot.getEventCount());
         
         repaint();
     }
     
     @Override
     public String toPrintableString() {
-        return String.format("Statistics - Clubs: %d, Members: %d, Events: %d", 
-                clubService.findAll().size(),
-                memberService.findAll().size(),
-                eventService.findAll().size());
+        // Reuse the counts shown on screen rather than querying again
+        return lastSnapshot != null ? lastSnapshot.toString() : statsService.getSnapshot().toString();
     }
 }
@@ -2,40 +2,35 @@ package ui.components;
 
 import java.awt.*;
 import javax.swing.*;
-import service.ClubService;
-import service.EventService;
-import service.MemberService;
+import service.StatsService;
 import utils.Displayable;
-import java.util.List;
 import model.Club;
 import model.Event;
+import model.FeedbackSummary;
 import model.Member;
+import model.StatsSnapshot;
 
 /**
  * Dashboard panel to display system statistics.
  * Demonstrates inheritance by extending BaseDashboardPanel.
  */
 public class StatsDashboardPanel extends BaseDashboardPanel {
-    private ClubService clubService;
-    private MemberService memberService;
-    private EventService eventService;
+    private StatsService statsService;
     
     private JLabel clubsLabel;
     private JLabel membersLabel;
     private JLabel eventsLabel;
+    private JLabel ratingLabel;
     private JLabel lastActivityLabel;
     
     private JList<Displayable> recentItemsList;
     private DefaultListModel<Displayable> listModel;
     
     public StatsDashboardPanel(String title, Color backgroundColor, Color accentColor,
-                               ClubService clubService, MemberService memberService, EventService eventService) {
+                               StatsService statsService) {
         super(title, backgroundColor, accentColor);
-        this.clubService = clubService;
-        this.memberService = memberService;
-        this.eventService = eventService;
-        
-        refreshData();
+        this.statsService = statsService;
+        // Data is loaded by the owner, via refreshData() or showSnapshot() off the EDT
     }
     
     @Override
@@ -44,23 +39,26 @@ public class StatsDashboardPanel extends BaseDashboardPanel {
         contentPanel.setOpaque(false);
         
         // Create stats panel
-        JPanel statsPanel = new JPanel(new GridLayout(4, 1, 5, 10));
+        JPanel statsPanel = new JPanel(new GridLayout(5, 1, 5, 10));
         statsPanel.setOpaque(false);
         
         clubsLabel = new JLabel("Clubs: 0");
         membersLabel = new JLabel("Members: 0");
         eventsLabel = new JLabel("Events: 0");
+        ratingLabel = new JLabel("Avg rating: -");
         lastActivityLabel = new JLabel("Last updated: Never");
         
         Font statsFont = new Font("Segoe UI", Font.PLAIN, 14);
         clubsLabel.setFont(statsFont);
         membersLabel.setFont(statsFont);
         eventsLabel.setFont(statsFont);
+        ratingLabel.setFont(statsFont);
         lastActivityLabel.setFont(new Font("Segoe UI", Font.ITALIC, 12));
         
         statsPanel.add(clubsLabel);
         statsPanel.add(membersLabel);
         statsPanel.add(eventsLabel);
+        statsPanel.add(ratingLabel);
         statsPanel.add(lastActivityLabel);
         
         // Create recent items panel
@@ -89,38 +87,36 @@ public class StatsDashboardPanel extends BaseDashboardPanel {
     
     @Override
     public void refreshData() {
+        showSnapshot(statsService.getSnapshot());
+    }
+    
+    /**
+     * Updates the labels and recent items from an already loaded snapshot
+     */
+    public void showSnapshot(StatsSnapshot snapshot) {
         // Update stats
-        int clubCount = clubService.findAll().size();
-        int memberCount = memberService.findAll().size();
-        int eventCount = eventService.findAll().size();
-        
-        clubsLabel.setText("Clubs: " + clubCount);
-        membersLabel.setText("Members: " + memberCount);
-        eventsLabel.setText("Events: " + eventCount);
-        
-        // Update recent items
+        clubsLabel.setText("Clubs: " + snapshot.getClubCount());
+        membersLabel.setText("Members: " + snapshot.getMemberCount());
+        eventsLabel.setText("Events: " + snapshot.getEventCount());
+        FeedbackSummary feedback = snapshot.getFeedback();
+        ratingLabel.setText(feedback != null && feedback.hasRatings()
+                ? "Avg rating: " + feedback.getDisplayText()
+                : "Avg rating: -");
+        
+        // Update recent items (polymorphism: treating different types as Displayable)
         listModel.clear();
-        
-        // Add recent clubs (polymorphism: treating different types as Displayable)
-        List<Club> clubs = clubService.findAll();
-        if (!clubs.isEmpty()) {
-            listModel.addElement(clubs.get(clubs.size() - 1));
+        if (snapshot.getLatestClub() != null) {
+            listModel.addElement(snapshot.getLatestClub());
         }
-        
-        // Add recent members
-        List<Member> members = memberService.findAll();
-        if (!members.isEmpty()) {
-            listModel.addElement(members.get(members.size() - 1));
+        if (snapshot.getLatestMember() != null) {
+            listModel.addElement(snapshot.getLatestMember());
         }
-        
-        // Add recent events
-        List<Event> events = eventService.findAll();
-        if (!events.isEmpty()) {
-            listModel.addElement(events.get(events.size() - 1));
+        if (snapshot.getLatestEvent() != null) {
+            listModel.addElement(snapshot.getLatestEvent());
         }
         
         // Update timestamp
-        lastActivityLabel.setText("Last updated: " + new java.text.SimpleDateFormat("HH:mm:ss").format(new java.util.Date()));
+        lastActivityLabel.setText("Last updated: " + new java.text.SimpleDateFormat("HH:mm:ss").format(snapshot.getTakenAt()));
         
         repaint();
     }
@@ -0,0 +1,115 @@
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from int keys to int values.
+ * Avoids boxing an Integer pair per entry for id -> count style lookups.
+ */
+public class IntIntMap {
+    private static final int EMPTY = Integer.MIN_VALUE;
+    
+    private int[] keys;
+    private int[] values;
+    private int size;
+    
+    public IntIntMap() {
+        this(16);
+    }
+    
+    public IntIntMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity * 3 / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+    
+    public int get(int key, int defaultValue) {
+        int slot = findSlot(keys, key);
+        return keys[slot] == key ? values[slot] : defaultValue;
+    }
+    
+    public boolean containsKey(int key) {
+        return keys[findSlot(keys, key)] == key;
+    }
+    
+    public void put(int key, int value) {
+        checkKey(key);
+        int slot = findSlot(keys, key);
+        if (keys[slot] != key) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        if (size > keys.length * 3 / 4) {
+            resize();
+        }
+    }
+    
+    public int increment(int key, int delta) {
+        checkKey(key);
+        int slot = findSlot(keys, key);
+        if (keys[slot] != key) {
+            keys[slot] = key;
+            values[slot] = 0;
+            size++;
+        }
+        int result = values[slot] += delta;
+        if (size > keys.length * 3 / 4) {
+            resize();
+        }
+        return result;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Keys whose value is at least minValue, in no particular order
+     */
+    public int[] keysWithValueAtLeast(int minValue) {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY && values[i] >= minValue) {
+                result[n++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+    
+    private static int findSlot(int[] table, int key) {
+        int mask = table.length - 1;
+        int hash = key * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (table[slot] != EMPTY && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+    
+    private void resize() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new int[oldKeys.length << 1];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = findSlot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+    
+    private static void checkKey(int key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key " + key + " is reserved");
+        }
+    }
+}
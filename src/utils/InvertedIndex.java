@@ -0,0 +1,174 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Token to document postings for in-memory search.
+ * Text is split on anything that is not a letter or digit and case-folded.
+ * Query terms match as prefixes, and every term must match (AND).
+ * Postings are sorted int arrays; a query expands its most selective term through
+ * them and checks the other terms only against the resulting candidates.
+ */
+public class InvertedIndex<T> extends TextIndex<T> {
+
+    private final NavigableMap<String, IntPostings> postings = new TreeMap<>();
+    private final Map<Integer, String[]> documentTokens = new HashMap<>();
+
+    public InvertedIndex(Function<T, String[]> textOf) {
+        super(textOf);
+    }
+
+    @Override
+    protected void addPostings(int id, String[] texts) {
+        String[] tokens = tokenize(texts);
+        documentTokens.put(id, tokens);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, t -> new IntPostings()).add(id);
+        }
+    }
+
+    @Override
+    protected void removePostings(int id) {
+        String[] tokens = documentTokens.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            IntPostings list = postings.get(token);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    @Override
+    protected void clearPostings() {
+        postings.clear();
+        documentTokens.clear();
+    }
+
+    /**
+     * Documents containing a token starting with every query term, in id order.
+     * An empty query matches nothing.
+     */
+    public List<T> search(String query, int limit) {
+        String[] terms = tokenize(query);
+        List<T> results = new ArrayList<>();
+        if (terms.length == 0) {
+            return results;
+        }
+        // Longer terms match fewer tokens: expand the longest one through the postings,
+        // then check the few remaining candidates against the other terms directly
+        Arrays.sort(terms, (a, b) -> b.length() - a.length());
+        lock.readLock().lock();
+        try {
+            int[] matches = prefixMatches(terms[0]);
+            for (int t = 1; t < terms.length && matches.length > 0; t++) {
+                matches = filterByPrefix(matches, terms[t]);
+            }
+            for (int i = 0; i < matches.length && results.size() < limit; i++) {
+                results.add(documents.get(matches[i]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * Whether search(query) would return the document if it were indexed. Used to
+     * narrow an earlier result set without going back to the postings.
+     */
+    public boolean matches(T document, String query) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0) {
+            return false;
+        }
+        String[] tokens = tokenize(textOf(document));
+        for (String term : terms) {
+            boolean found = false;
+            for (int i = 0; i < tokens.length && !found; i++) {
+                found = tokens[i].startsWith(term);
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits text into distinct case-folded tokens of letters and digits
+     */
+    public static String[] tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        StringBuilder token = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i <= text.length(); i++) {
+                char c = i < text.length() ? text.charAt(i) : ' ';
+                if (Character.isLetterOrDigit(c)) {
+                    token.append(Character.toLowerCase(c));
+                } else if (token.length() > 0) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                }
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    private int[] prefixMatches(String prefix) {
+        // Every token from prefix up to prefix + Character.MAX_VALUE starts with prefix
+        NavigableMap<String, IntPostings> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        if (range.isEmpty()) {
+            return new int[0];
+        }
+        if (range.size() == 1) {
+            return range.firstEntry().getValue().toArray();
+        }
+        int total = 0;
+        for (IntPostings list : range.values()) {
+            total += list.size();
+        }
+        int[] all = new int[total];
+        int n = 0;
+        for (IntPostings list : range.values()) {
+            list.copyTo(all, n);
+            n += list.size();
+        }
+        Arrays.sort(all);
+        int distinct = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[distinct++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, distinct);
+    }
+
+    private int[] filterByPrefix(int[] candidates, String prefix) {
+        int[] out = new int[candidates.length];
+        int n = 0;
+        for (int id : candidates) {
+            for (String token : documentTokens.get(id)) {
+                if (token.startsWith(prefix)) {
+                    out[n++] = id;
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
@@ -0,0 +1,125 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Document bookkeeping shared by the in-memory search indexes: stores documents
+ * by id and guards them with a read/write lock, so queries run concurrently and
+ * updates are exclusive. Subclasses maintain their own postings.
+ */
+public abstract class TextIndex<T> {
+
+    private final Function<T, String[]> textOf;
+    protected final Map<Integer, T> documents = new HashMap<>();
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param textOf the searchable fields of a document
+     */
+    protected TextIndex(Function<T, String[]> textOf) {
+        this.textOf = textOf;
+    }
+
+    protected String[] textOf(T document) {
+        return textOf.apply(document);
+    }
+
+    /** Adds postings for a document; called with the write lock held */
+    protected abstract void addPostings(int id, String[] texts);
+
+    /** Removes a document's postings if it has any; called with the write lock held */
+    protected abstract void removePostings(int id);
+
+    /** Drops all postings; called with the write lock held */
+    protected abstract void clearPostings();
+
+    /**
+     * Adds a document, replacing any previous version with the same id
+     */
+    public void put(int id, T document) {
+        String[] texts = textOf.apply(document);
+        lock.writeLock().lock();
+        try {
+            removePostings(id);
+            documents.put(id, document);
+            addPostings(id, texts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removePostings(id);
+            documents.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every document matching the condition
+     */
+    public void removeIf(Predicate<T> condition) {
+        lock.writeLock().lock();
+        try {
+            List<Integer> ids = new ArrayList<>();
+            for (Map.Entry<Integer, T> entry : documents.entrySet()) {
+                if (condition.test(entry.getValue())) {
+                    ids.add(entry.getKey());
+                }
+            }
+            for (int id : ids) {
+                removePostings(id);
+                documents.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes stored documents in place. The change must not touch indexed fields;
+     * use put for that.
+     */
+    public void updateIf(Predicate<T> condition, Consumer<T> change) {
+        lock.writeLock().lock();
+        try {
+            for (T document : documents.values()) {
+                if (condition.test(document)) {
+                    change.accept(document);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearPostings();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
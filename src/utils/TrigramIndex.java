@@ -0,0 +1,320 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Character trigram index for infix ("ohn@gm") and typo-tolerant search.
+ * Each field is case-folded, padded with a space at both ends and split into
+ * overlapping three-character grams; each gram keeps a sorted posting list.
+ *
+ * Infix queries intersect the posting lists of the query's grams, starting with
+ * the shortest, and confirm the survivors with a substring check. Fuzzy queries
+ * count shared grams per document and rank the documents that share enough of
+ * them by edit distance. In both cases the work grows with the posting lists the
+ * query touches, not with the number of documents.
+ *
+ * A long fuzzy query may match anywhere in a field. A shorter one has too few
+ * grams for that, so it is matched against whole words (split on spaces), whose
+ * padded grams give the bound two more grams to work with. A query with too few
+ * distinct grams even for that finds nothing rather than checking every document.
+ */
+public class TrigramIndex<T> extends TextIndex<T> {
+
+    /** Queries shorter than this have no trigrams and match nothing */
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    // Grams with fewer postings than this are always counted in fuzzy queries
+    private static final int COMMON_GRAM_MIN_POSTINGS = 1000;
+
+    private final Map<Long, IntPostings> postings = new HashMap<>();
+    private final Map<Integer, String[]> documentFields = new HashMap<>();
+
+    public TrigramIndex(Function<T, String[]> textOf) {
+        super(textOf);
+    }
+
+    /**
+     * Result of a fuzzy search with its edit distance from the query
+     */
+    public static final class Match<T> {
+        private final T document;
+        private final int distance;
+
+        private Match(T document, int distance) {
+            this.document = document;
+            this.distance = distance;
+        }
+
+        public T getDocument() {
+            return document;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+
+    @Override
+    protected void addPostings(int id, String[] texts) {
+        List<String> fields = new ArrayList<>(texts.length);
+        for (String text : texts) {
+            if (text != null && !text.isEmpty()) {
+                String field = fold(text);
+                fields.add(field);
+                for (long gram : grams(" " + field + " ")) {
+                    postings.computeIfAbsent(gram, g -> new IntPostings()).add(id);
+                }
+            }
+        }
+        documentFields.put(id, fields.toArray(new String[0]));
+    }
+
+    @Override
+    protected void removePostings(int id) {
+        String[] fields = documentFields.remove(id);
+        if (fields == null) {
+            return;
+        }
+        for (String field : fields) {
+            for (long gram : grams(" " + field + " ")) {
+                IntPostings list = postings.get(gram);
+                if (list != null && list.remove(id) && list.size() == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void clearPostings() {
+        postings.clear();
+        documentFields.clear();
+    }
+
+    /**
+     * Documents with a field containing query as a substring (case-insensitive), in id order
+     */
+    public List<T> searchInfix(String query, int limit) {
+        List<T> results = new ArrayList<>();
+        String needle = fold(query.trim());
+        if (needle.length() < MIN_QUERY_LENGTH) {
+            return results;
+        }
+        long[] queryGrams = grams(needle);
+        lock.readLock().lock();
+        try {
+            IntPostings[] lists = new IntPostings[queryGrams.length];
+            for (int i = 0; i < queryGrams.length; i++) {
+                lists[i] = postings.get(queryGrams[i]);
+                if (lists[i] == null) {
+                    return results;
+                }
+            }
+            Arrays.sort(lists, (a, b) -> a.size() - b.size());
+            IntPostings shortest = lists[0];
+            for (int i = 0; i < shortest.size() && results.size() < limit; i++) {
+                int id = shortest.get(i);
+                if (inAll(lists, id) && anyFieldContains(id, needle)) {
+                    results.add(documents.get(id));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * Whether searchInfix(query) would return the document if it were indexed
+     */
+    public boolean matchesInfix(T document, String query) {
+        String needle = fold(query.trim());
+        if (needle.length() < MIN_QUERY_LENGTH) {
+            return false;
+        }
+        for (String text : textOf(document)) {
+            if (text != null && fold(text).contains(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Documents with a field containing something within maxDistance edits of the
+     * query, closest first (ties in id order). Queries of up to 3 * maxDistance + 2
+     * characters only match whole words.
+     */
+    public List<Match<T>> searchFuzzy(String query, int maxDistance, int limit) {
+        List<Match<T>> results = new ArrayList<>();
+        String needle = fold(query.trim());
+        if (needle.length() < MIN_QUERY_LENGTH) {
+            return results;
+        }
+        // Each edit destroys at most three grams (q-gram lemma). A match inside a longer
+        // field shares none of the query's boundary grams, so those are only used when
+        // the unpadded grams leave the bound nothing to exclude and whole words are matched.
+        boolean anywhere = needle.length() - 2 > 3 * maxDistance;
+        long[] queryGrams = grams(anywhere ? needle : " " + needle + " ");
+
+        List<int[]> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // Grams found in a large share of documents (".co", "com") would make the
+            // count proportional to the table, so they are left out, rarest first.
+            // A match still shares at least (grams counted - 3 * maxDistance) of them.
+            IntPostings[] lists = new IntPostings[queryGrams.length];
+            int found = 0;
+            for (long gram : queryGrams) {
+                IntPostings list = postings.get(gram);
+                lists[found++] = list != null ? list : new IntPostings();
+            }
+            Arrays.sort(lists, 0, found, (a, b) -> a.size() - b.size());
+            int commonCutoff = Math.max(COMMON_GRAM_MIN_POSTINGS, documents.size() / 10);
+            int counted = 0;
+            while (counted < found && (counted == 0 || lists[counted].size() <= commonCutoff)) {
+                counted++;
+            }
+            int minShared = counted - 3 * maxDistance;
+            if (minShared <= 0) {
+                // No bound would rule anything out; checking every document is not worth it
+                return results;
+            }
+            IntIntMap shared = new IntIntMap();
+            for (int g = 0; g < counted; g++) {
+                for (int i = 0; i < lists[g].size(); i++) {
+                    shared.increment(lists[g].get(i), 1);
+                }
+            }
+            for (int id : shared.keysWithValueAtLeast(minShared)) {
+                int distance = Integer.MAX_VALUE;
+                for (String field : documentFields.get(id)) {
+                    distance = Math.min(distance, anywhere ? substringDistance(needle, field, maxDistance)
+                            : wordDistance(needle, field, maxDistance));
+                }
+                if (distance <= maxDistance) {
+                    candidates.add(new int[]{id, distance});
+                }
+            }
+            candidates.sort((a, b) -> a[1] != b[1] ? a[1] - b[1] : Integer.compare(a[0], b[0]));
+            for (int i = 0; i < candidates.size() && i < limit; i++) {
+                int[] candidate = candidates.get(i);
+                results.add(new Match<>(documents.get(candidate[0]), candidate[1]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * Fewest edits turning the pattern into some substring of text (Sellers' algorithm:
+     * edit distance where the match may start and end anywhere in text), or
+     * Integer.MAX_VALUE when that is more than maxDistance.
+     */
+    static int substringDistance(String pattern, String text, int maxDistance) {
+        int m = pattern.length();
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int i = 0; i <= m; i++) {
+            previous[i] = i;
+        }
+        int best = previous[m];
+        for (int j = 1; j <= text.length(); j++) {
+            current[0] = 0;
+            char c = text.charAt(j - 1);
+            for (int i = 1; i <= m; i++) {
+                int substitution = previous[i - 1] + (pattern.charAt(i - 1) == c ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            best = Math.min(best, current[m]);
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return best <= maxDistance ? best : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Fewest edits turning the pattern into one of the space-separated words of
+     * text, or Integer.MAX_VALUE when that is more than maxDistance
+     */
+    static int wordDistance(String pattern, String text, int maxDistance) {
+        int best = Integer.MAX_VALUE;
+        for (String word : text.split(" ")) {
+            if (Math.abs(word.length() - pattern.length()) <= maxDistance) {
+                best = Math.min(best, editDistance(pattern, word));
+            }
+        }
+        return best <= maxDistance ? best : Integer.MAX_VALUE;
+    }
+
+    private static int editDistance(String a, String b) {
+        int[] previous = new int[a.length() + 1];
+        int[] current = new int[a.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= b.length(); j++) {
+            current[0] = j;
+            char c = b.charAt(j - 1);
+            for (int i = 1; i <= a.length(); i++) {
+                int substitution = previous[i - 1] + (a.charAt(i - 1) == c ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[a.length()];
+    }
+
+    private static boolean inAll(IntPostings[] lists, int id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean anyFieldContains(int id, String needle) {
+        for (String field : documentFields.get(id)) {
+            if (field.contains(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Distinct trigrams of text, each packed into a long (16 bits per char)
+     */
+    private static long[] grams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+}
@@ -1,5 +1,6 @@
 package utils;
 
+import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -37,6 +38,13 @@ public class ValidationUtils {
         }
     }
     
+    /**
+     * Amounts of money: present and not negative
+     */
+    public static boolean isNonNegative(BigDecimal amount) {
+        return amount != null && amount.signum() >= 0;
+    }
+    
     public static boolean isValidDate(String dateStr) {
         if (!isNotEmpty(dateStr)) {
             return false;